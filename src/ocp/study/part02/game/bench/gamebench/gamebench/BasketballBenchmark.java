@@ -0,0 +1,52 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamebench;
+
+import game.Factory;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+// Basketball's game length is fixed in its own GameSettings, which isn't exported
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasketballBenchmark {
+
+    @Param({"5", "11"})
+    public int teamSize;
+
+    private Game theGame;
+
+    @Setup
+    public void setUp() {
+        Team[] theTeams = Rosters.createTeams("basketball", 2, teamSize);
+        theGame = Factory.createGame("basketball", theTeams[0], theTeams[1], LocalDateTime.now());
+        theGame.setRandom(RandomSource.seeded(42));
+    }
+
+    @Benchmark
+    public Game playGame() {
+        theGame.playGame();
+        return theGame;
+    }
+
+}
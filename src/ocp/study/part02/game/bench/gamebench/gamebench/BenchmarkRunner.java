@@ -0,0 +1,30 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamebench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+// Runs all the benchmarks (or those matching the first argument) with the
+// gc profiler, so allocation rates are reported alongside the timings.
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+
+        Options opts = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "gamebench")
+                .addProfiler(GCProfiler.class)
+                // The forked JVMs need the game modules too, otherwise
+                // ServiceLoader can't find the GameProvider implementations
+                .jvmArgsPrepend("--module-path", System.getProperty("jdk.module.path"),
+                        "--add-modules", "ALL-MODULE-PATH")
+                .build();
+
+        new Runner(opts).run();
+    }
+
+}
@@ -0,0 +1,82 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamebench;
+
+import game.League;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gamefixtures.Rosters;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import storage.JacksonUtil;
+
+
+// Round trip of a played league through the JSON file
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private static final String FILE_NAME = "games.json";
+
+    @Param({"soccer", "basketball"})
+    public String gameType;
+
+    @Param({"4", "16"})
+    public int teamCount;
+
+    private Game[] theGames;
+    private Path dir;
+
+    @Setup
+    public void setUp() throws IOException {
+        League theLeague = new League();
+        theLeague.populate(gameType, Rosters.createTeams(gameType, teamCount, 5));
+        theLeague.setRandom(RandomSource.seeded(42));
+        theLeague.createAndPlayAllGames();
+        theGames = theLeague.getGames();
+
+        dir = Files.createTempDirectory("gamebench");
+        JacksonUtil.saveToJSONFile(dir.toString(), FILE_NAME, theGames);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve(FILE_NAME));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void save() {
+        JacksonUtil.saveToJSONFile(dir.toString(), FILE_NAME, theGames);
+    }
+
+    @Benchmark
+    public Game[] load() {
+        return JacksonUtil.getGamesFromJSONFile(dir.toString(), FILE_NAME);
+    }
+
+    @Benchmark
+    public Game[] saveAndLoad() {
+        JacksonUtil.saveToJSONFile(dir.toString(), FILE_NAME, theGames);
+        return JacksonUtil.getGamesFromJSONFile(dir.toString(), FILE_NAME);
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamebench;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import game.Factory;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import storage.JacksonUtil;
+import storage.LocalDateDeserializer;
+import storage.LocalDateSerializer;
+
+
+// Saving and loading a single game result, with a new mapper built for every
+// call (as JacksonUtil used to) against JacksonUtil's shared reader and writer
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonMapperBenchmark {
+
+    private static final String FILE_NAME = "game.json";
+
+    @Param({"soccer", "basketball"})
+    public String gameType;
+
+    private Game[] theGames;
+    private Path dir;
+
+    @Setup
+    public void setUp() throws IOException {
+        Team[] theTeams = Rosters.createTeams(gameType, 2, 5);
+        Game theGame = Factory.createGame(gameType, theTeams[0], theTeams[1], LocalDateTime.now());
+        theGame.setRandom(RandomSource.seeded(42));
+        theGame.playGame();
+        theGames = new Game[] { theGame };
+
+        dir = Files.createTempDirectory("gamebench");
+        JacksonUtil.saveToJSONFile(dir.toString(), FILE_NAME, theGames);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve(FILE_NAME));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void savePerCallMapper() throws IOException {
+        perCallMapper().writeValue(new File(dir.toString(), FILE_NAME), theGames);
+    }
+
+    @Benchmark
+    public void saveSharedWriter() {
+        JacksonUtil.saveToJSONFile(dir.toString(), FILE_NAME, theGames);
+    }
+
+    @Benchmark
+    public Game[] loadPerCallMapper() throws IOException {
+        return perCallMapper().readValue(new File(dir.toString(), FILE_NAME), Game[].class);
+    }
+
+    @Benchmark
+    public Game[] loadSharedReader() {
+        return JacksonUtil.getGamesFromJSONFile(dir.toString(), FILE_NAME);
+    }
+
+    // The mapper JacksonUtil used to build on every save and load
+    private static ObjectMapper perCallMapper() {
+        SimpleModule module = new SimpleModule("LongDeserializerModule", new Version(1, 0, 0, null, null, null));
+        module.addDeserializer(LocalDateTime.class, new LocalDateDeserializer() { });    // its constructor is protected
+        module.addSerializer(LocalDateTime.class, new LocalDateSerializer());
+
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(module);
+
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        mapper.enableDefaultTyping();
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+        return mapper;
+    }
+
+}
@@ -0,0 +1,70 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamebench;
+
+import game.League;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeagueBenchmark {
+
+    @Param({"soccer", "basketball"})
+    public String gameType;
+
+    @Param({"8", "32", "128"})
+    public int teamCount;
+
+    @Param({"5"})
+    public int teamSize;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private Team[] theTeams;
+
+    @Setup
+    public void setUp() {
+        theTeams = Rosters.createTeams(gameType, teamCount, teamSize);
+    }
+
+    @Benchmark
+    public Game[] createGames() {
+        League theLeague = new League();
+        theLeague.populate(gameType, theTeams);
+        theLeague.createGames();
+        return theLeague.getGames();
+    }
+
+    @Benchmark
+    public Game[] createAndPlayAllGames() {
+        League theLeague = new League();
+        theLeague.populate(gameType, theTeams);
+        theLeague.setRandom(RandomSource.seeded(42));
+        theLeague.setExecutor(parallel ? ForkJoinPool.commonPool() : null);
+        theLeague.createAndPlayAllGames();
+        return theLeague.getGames();
+    }
+
+}
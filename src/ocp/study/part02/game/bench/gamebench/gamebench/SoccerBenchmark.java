@@ -0,0 +1,68 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamebench;
+
+import gameapi.Game;
+import gameapi.GameResult;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import soccer.Soccer;
+import soccer.SoccerResult;
+
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoccerBenchmark {
+
+    @Param({"5", "11"})
+    public int teamSize;
+
+    @Param({"75", "300"})
+    public int gameLength;
+
+    private Game theGame;
+
+    @Setup
+    public void setUp() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, teamSize);
+        theGame = new Soccer(theTeams[0], theTeams[1], LocalDateTime.now(), gameLength, false);
+        theGame.setRandom(RandomSource.seeded(42));
+        theGame.playGame();    // so there are events for the result benchmarks
+    }
+
+    @Benchmark
+    public Game playGame() {
+        theGame.playGame();
+        return theGame;
+    }
+
+    // Scans all the events, as when a game has been read back from JSON
+    @Benchmark
+    public GameResult newSoccerResult() {
+        return new SoccerResult(theGame);
+    }
+
+    @Benchmark
+    public GameResult getGameResult() {
+        return theGame.getGameResult();
+    }
+
+}
@@ -0,0 +1,23 @@
+/*
+ * To change this license header, choose License Headers in Project Properties.
+ * To change this template file, choose Tools | Templates
+ * and open the template in the editor.
+ */
+module gamebench {
+    requires jmh.core;
+    // jmh.core is an automatic module, so nothing else pulls in the
+    // sun.misc.Unsafe it uses
+    requires jdk.unsupported;
+    requires competition;
+    requires gamefixtures;
+    requires soccer;
+    requires storage;
+    requires jackson.annotations;
+    requires jackson.core;
+    requires jackson.databind;
+
+    // JMH generates the benchmark runners into gamebench.jmh_generated and
+    // loads them reflectively in the forked JVMs
+    exports gamebench;
+    exports gamebench.jmh_generated;
+}
@@ -8,6 +8,11 @@ class Basket extends BasketballEvent  {
     public Basket(){
        
     }
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.BASKET;
+    }
+
     public String toString() {
         return "Basket! ";
     }
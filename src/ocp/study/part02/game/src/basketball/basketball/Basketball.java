@@ -7,25 +7,36 @@ import gameapi.Game;
 import gameapi.GameEvent;
 import gameapi.GameResult;
 import gameapi.Player;
+import gameapi.RandomSource;
 import gameapi.Team;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 
 import basketball.util.GameSettings;
 
+import java.util.logging.Level;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 
 public class Basketball implements Game {
     
     private static final Logger LOGGER = Logger.getLogger("");
+
+    // Given with each record, as working out the caller means walking the stack
+    private static final String LOG_SOURCE = "basketball.Basketball";
     
 
     private Team homeTeam;
     private Team awayTeam;
     private GameEvent[] events;
+    private transient RandomSource random = RandomSource.threadLocal();
+
+    // Worked out as the game is played, so the events needn't be scanned again
+    private transient GameResult result;
+    private transient volatile int homeTeamScore;
+    private transient volatile int awayTeamScore;
     
 
     private LocalDateTime theDateTime;
@@ -49,6 +60,7 @@ public class Basketball implements Game {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.theDateTime = plusDays;
+        this.result = null;
     }
 
 
@@ -60,21 +72,22 @@ public class Basketball implements Game {
 	// Choose either homeTeam or awayTeam to have possession
 	// Choose a player to kickoff randomly from the team that has possession
 
-        ArrayList<GameEvent> eventList = new ArrayList<>();
+        ArrayList<GameEvent> eventList = new ArrayList<>(GameSettings.GAME_LENGTH + 1);
+        this.result = null;
+        this.homeTeamScore = 0;
+        this.awayTeamScore = 0;
         Team currTeam;
         Player currPlayer;
         GameEvent currEvent = new StartPlay();
 	GameEvent nextEvent;
         currEvent.setBallPos(50); // Maybe this should happen automatically as part of StartPlay?
-        currEvent.setTheTeam(Math.random() > 0.5?homeTeam: awayTeam);
+        currEvent.setTheTeam(random.nextDouble() > 0.5?homeTeam: awayTeam);
         currEvent.setThePlayer(currEvent.getTheTeam().
-                getPlayerArray()[(int) (Math.random() * this.homeTeam.getPlayerArray().length)]);
+                getPlayer(random.nextInt(this.homeTeam.getPlayerCount())));
         currEvent.setTheTime(0);
         
         
         eventList.add(currEvent);
-        LOGGER.fine("****** New game ****** ");
-        LOGGER.fine("" + currEvent.toString());
 
 	// Loop until game is over 
 	// if statement ensures that the increase of the time (i) increases by random jumps for each event.
@@ -92,30 +105,22 @@ public class Basketball implements Game {
                 
  
 		// Temporary simple random determine failure conditional
-		if ((Math.random()* 100 < currEvent.getPercentChanceSuccess())){
-
-		    GameEvent tempEvent = currTeam.getNextPlayAttempt(currEvent); 
-
-		    try {
-			GameEvent[] tempEvents = currEvent.getNextEvents();
-			boolean isFound = false;
-
-			    for (GameEvent thisEvent: tempEvents ) {
-				    if ( thisEvent.getClass().equals( tempEvent.getClass())) { 
-				    // We're good
-				    isFound = true;
-				    }
-			    }
-
-			    if (isFound) {
-				currEvent = tempEvent;
-			    } else throw new Exception("Not a valid event type.");
-			} catch (Exception e) {
-			    System.out.println(tempEvent + " not a valid event type for "+ currEvent);
-			}
+		if ((random.nextDouble()* 100 < currEvent.getPercentChanceSuccess())){
+
+		    GameEvent tempEvent = currTeam.getNextPlayAttempt(currEvent, random); 
+
+		    if (BasketballEventTable.isNextEvent(currEvent, tempEvent)) {
+			currEvent = tempEvent;
+		    } else {
+			// The event tables only offer valid events, so only another Team implementation gets here
+			LOGGER.logp(Level.WARNING, LOG_SOURCE, "playGame", "{0} not a valid event type for {1}",
+				new Object[] { tempEvent, currEvent });
+		    }
 		} else {
 		    //System.err.println("Failed" + currEvent);
-		    currEvent = currEvent.getNextFailEvent()[0];
+		    currEvent = currEvent instanceof BasketballEvent?
+			    BasketballEventTable.newNextFailEvent((BasketballEvent) currEvent):
+			    currEvent.getNextFailEvent()[0];
 		}		
 		    //currEvent = currTeam.getNextPlayAttempt(currEvent); 
 
@@ -135,11 +140,9 @@ public class Basketball implements Game {
                
 		// Below code sets things up so not same player twice 
 		// It doesn't need to run when there's a change in team (in that case currPlayer won't be removed
-                ArrayList <Player> currPlayerList = new ArrayList<>(Arrays.asList(currEvent.getTheTeam().getPlayerArray()));
-                if (currPlayerList.size() > 1 ) currPlayerList.remove(currPlayer); // Needs a check here otherwise error
                 currEvent.setThePlayer(
                     currEvent.changePlayer()?
-                    currPlayerList.get((int)(Math.random() * currPlayerList.size())):
+                    getOtherPlayer(currEvent.getTheTeam(), currPlayer):
                     currPlayer
                 );
 
@@ -147,20 +150,57 @@ public class Basketball implements Game {
 		// Note that currTeam, currPlayer, currBallPos are all now for the previous event
 		// but they will be updated at the start of the loop
                 eventList.add(currEvent); 
-                
-                LOGGER.fine(currEvent.getThePlayer().getPlayerName() + " of the " + 
-                        currEvent.getTheTeam().getTeamName() + " team -- " + currEvent.toString());
+                if (currEvent.getTheTeam() == homeTeam) {
+                    homeTeamScore += BasketballResult.getPoints(currEvent);
+                } else {
+                    awayTeamScore += BasketballResult.getPoints(currEvent);
+                }
                 
             }
+        }
 
-	    // Finally copy the list of created Events
-            this.events = new GameEvent[eventList.size()];
-            eventList.toArray(events);
- 
+	// Finally copy the list of created Events
+        this.events = eventList.toArray(new GameEvent[eventList.size()]);
+        this.result = new BasketballResult(homeTeam, awayTeam, homeTeamScore, awayTeamScore);
+
+        // One record per game rather than per event, and its commentary is
+        // only put together if and when the record is written
+        if (LOGGER.isLoggable(Level.FINE)) {
+            GameEvent[] playedEvents = this.events;
+            Supplier<GameEvent[]> theEvents = () -> playedEvents;
+            LOGGER.logp(Level.FINE, LOG_SOURCE, "playGame", "****** New game ******{0}", new Commentary(theEvents));
         }
     }
+
+    // Same as copying the player array, removing currPlayer (if on this team)
+    // and picking from what's left, but without copying anything.
+    private Player getOtherPlayer(Team theTeam, Player currPlayer) {
+        int numPlayers = theTeam.getPlayerCount();
+        int currIndex = -1;
+        if (numPlayers > 1) {
+            for (int i = 0; i < numPlayers; i++) {
+                if (theTeam.getPlayer(i) == currPlayer) {
+                    currIndex = i;
+                    break;
+                }
+            }
+        }
+        if (currIndex < 0) {
+            return theTeam.getPlayer(random.nextInt(numPlayers));
+        }
+        int playerIndex = random.nextInt(numPlayers - 1);
+        return theTeam.getPlayer(playerIndex < currIndex ? playerIndex : playerIndex + 1);
+    }
     
 
+    /**
+     * @param random the source of random numbers used by playGame()
+     */
+    @Override
+    public void setRandom(RandomSource random) {
+        this.random = random;
+    }
+
     public String getDescription(boolean showEvents) {
 
         // Announce the game
@@ -237,6 +277,7 @@ public class Basketball implements Game {
    
     public void setHomeTeam(Team homeTeam) {
         this.homeTeam = homeTeam;
+        this.result = null;
     }
 
     /**
@@ -253,6 +294,7 @@ public class Basketball implements Game {
 
     public void setAwayTeam(Team awayTeam) {
         this.awayTeam = awayTeam;
+        this.result = null;
     }
 
     /**
@@ -269,6 +311,7 @@ public class Basketball implements Game {
 
     public void setEvents(GameEvent[] events) {
         this.events = events;
+        this.result = null;
     }
 
     /**
@@ -306,8 +349,27 @@ public class Basketball implements Game {
     
    
 
+    // Set at the end of playGame(), otherwise worked out from the events
+    // (e.g. for a game read back from JSON) the first time it's needed
     public GameResult getGameResult(){
-        return new BasketballResult(this);  // ???
+        if (result == null) {
+            result = new BasketballResult(this);
+        }
+        return result;
+    }
+
+    /**
+     * @return the home team's score so far, while the game is being played
+     */
+    public int getHomeTeamRunningScore() {
+        return homeTeamScore;
+    }
+
+    /**
+     * @return the away team's score so far, while the game is being played
+     */
+    public int getAwayTeamRunningScore() {
+        return awayTeamScore;
     }
     
         // Remainder is displayDetailStuff
@@ -363,6 +425,28 @@ public class Basketball implements Game {
     public String getScoreDescriptionString() {
         return "Total Pts Scored";
     }
-    
-      
+
+
+    // Every event in a played game, a line each, as the toString() of a log parameter
+    private static class Commentary {
+
+        private final Supplier<GameEvent[]> theEvents;
+
+        Commentary(Supplier<GameEvent[]> theEvents) {
+            this.theEvents = theEvents;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder returnString = new StringBuilder();
+            for (GameEvent currEvent : theEvents.get()) {
+                returnString.append(System.lineSeparator())
+                        .append(currEvent.getThePlayer().getPlayerName()).append(" of the ")
+                        .append(currEvent.getTheTeam().getTeamName()).append(" team -- ").append(currEvent);
+            }
+            return returnString.toString();
+        }
+
+    }
+
 }
@@ -25,6 +25,10 @@ public abstract class BasketballEvent implements GameEvent{
     }
 
 
+    // Index of this type of event in BasketballEventTable
+    @Override
+    public abstract int getEventType();
+
     @Override
     public int getPercentChanceSuccess() {
 		int odds = 92;
@@ -0,0 +1,79 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package basketball;
+
+import gameapi.EventTable;
+import gameapi.GameEvent;
+import gameapi.RandomSource;
+
+
+// The BasketballEvent subclasses, numbered by getEventType(), and the EventTable
+// playGame() uses to check and pick them.
+final class BasketballEventTable {
+
+    static final int START_PLAY = 0;
+    static final int RECEIVE_PASS = 1;
+    static final int PASS = 2;
+    static final int DRIBBLE = 3;
+    static final int SHOOT = 4;
+    static final int BASKET = 5;
+    static final int GAIN_POSSESSION = 6;
+    static final int FREE_THROW_TO_ATTACKING_SIDE = 7;
+    static final int FREE_THROW_TO_DEFENDING_SIDE = 8;
+
+    static final int NUM_EVENT_TYPES = 9;
+
+    private static final EventTable<BasketballEvent> EVENTS = new EventTable<>(BasketballEvent.class, NUM_EVENT_TYPES, BasketballEventTable::newEvent);
+
+    // Shoot odds for every ball position on the pitch
+    private static final int[] SHOOT_ODDS = new int[basketball.util.GameSettings.PITCH_LENGTH + 1];
+
+    static {
+        for (int ballPos = 0; ballPos < SHOOT_ODDS.length; ballPos++) {
+            SHOOT_ODDS[ballPos] = calcShootOdds(ballPos);
+        }
+    }
+
+    private BasketballEventTable() {}
+
+    static BasketballEvent newEvent(int type) {
+        switch (type) {
+            case START_PLAY: return new StartPlay();
+            case RECEIVE_PASS: return new ReceivePass();
+            case PASS: return new Pass();
+            case DRIBBLE: return new Dribble();
+            case SHOOT: return new Shoot();
+            case BASKET: return new Basket();
+            case GAIN_POSSESSION: return new GainPossession();
+            case FREE_THROW_TO_ATTACKING_SIDE: return new FreeThrowToAttackingSide();
+            case FREE_THROW_TO_DEFENDING_SIDE: return new FreeThrowToDefendingSide();
+            default: throw new IllegalArgumentException("Unknown event type " + type);
+        }
+    }
+
+    // Is nextEvent one of currEvent's getNextEvents()?
+    static boolean isNextEvent(GameEvent currEvent, GameEvent nextEvent) {
+        return EVENTS.isNextEvent(currEvent, nextEvent);
+    }
+
+    static BasketballEvent newNextEvent(BasketballEvent currEvent, RandomSource random) {
+        return EVENTS.newNextEvent(currEvent, random);
+    }
+
+    static BasketballEvent newNextFailEvent(BasketballEvent currEvent) {
+        return EVENTS.newNextFailEvent(currEvent);
+    }
+
+    static int getShootOdds(int ballPos) {
+        if (ballPos >= 0 && ballPos < SHOOT_ODDS.length) {
+            return SHOOT_ODDS[ballPos];
+        }
+        return calcShootOdds(ballPos);
+    }
+
+    // Below indicate 100% chance if ball at 100 yards!
+    private static int calcShootOdds(int ballPos) {
+        return (int)(Math.pow(ballPos,2)/100);
+    }
+
+}
@@ -14,11 +14,6 @@ public class BasketballPlayer implements Player {
         return "Player";
     }
     
-    @Override
-    public void incGoalsScored() {
-        this.goalsScored++;
-    }
-    
     public BasketballPlayer(String playerName) {
         this.playerName = playerName;
     }
@@ -33,46 +28,19 @@ public class BasketballPlayer implements Player {
         return playerName;
     }
 
-    /**
-     * @param playerName the playerName to set
-     */
-    @Override
-    public void setPlayerName(String playerName) {
-        this.playerName = playerName;
-    }
-
     /**
      * @return the goalsScored
      */
+    @Deprecated
     @Override
     public int getGoalsScored() {
         return goalsScored;
     }
 
-    /**
-     * @param goalsScored the goalsScored to set
-     */
-    @Override
-    public void setGoalsScored(int goalsScored) {
-        this.goalsScored = goalsScored;
-    }
     
     
     
     
-    // TODO - possibly remove this so can sort based on Lambda expression
-    // If so, need to use 1.8 Java for GlassFish
-    @Override
-    public int compareTo(Player thePlayer){
-
-        if (this.getGoalsScored() < thePlayer.getGoalsScored()){
-            return 1;
-        }
-        else {
-            return -1;
-
-        }
-    }
 
     // TODO (8/2016)
     // Add code here to have player return suggested Event
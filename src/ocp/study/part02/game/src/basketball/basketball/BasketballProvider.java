@@ -3,6 +3,7 @@
 package basketball;
 
 import gameapi.Game;
+import gameapi.GameEvent;
 import gameapi.GameProvider;
 import gameapi.Player;
 import gameapi.Team;
@@ -27,6 +28,13 @@ public class BasketballProvider implements GameProvider {
         return new BasketballTeam(teamName, players);
     }
 
+    @Override
+    public GameEvent getEvent(int eventType, int ballPos) {
+        BasketballEvent theEvent = BasketballEventTable.newEvent(eventType);
+        theEvent.ballPos = ballPos;    // as played, setBallPos() would adjust it
+        return theEvent;
+    }
+
     @Override
     public String getType() {
         return "basketball";
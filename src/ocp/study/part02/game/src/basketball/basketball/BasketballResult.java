@@ -45,6 +45,19 @@ public class BasketballResult implements GameResult {
         this.homeTeam = currGame.getHomeTeam();  // This might change in later version
         this.awayTeam = currGame.getAwayTeam();
         setGoals(currGame);       
+        setWinner();
+    }
+
+    // For when the scores were already totalled while the game was played
+    public BasketballResult(Team homeTeam, Team awayTeam, int homeTeamGoals, int awayTeamGoals) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeTeamGoals = homeTeamGoals;
+        this.awayTeamGoals = awayTeamGoals;
+        setWinner();
+    }
+
+    private void setWinner() {
          if (homeTeamGoals == awayTeamGoals){
             this.isDrawn = true;       
         } else if (homeTeamGoals > awayTeamGoals) {
@@ -57,21 +70,28 @@ public class BasketballResult implements GameResult {
     
     private void setGoals(Game currGame) {
        for (GameEvent currEvent: currGame.getEvents()) {
-            if (currEvent instanceof FreeThrowToAttackingSide || currEvent instanceof Basket ) {
+            if (getPoints(currEvent) > 0) {
                 //if (currEvent.getTheTeam()==currGame.getHomeTeam()){    // Needs to compare team names here as deserialization means can't compare object references
                 if (currEvent.getTheTeam().getTeamName().equals(currGame.getHomeTeam().getTeamName())){
                     //System.out.println("I'm a " + this.homeTeam);
-                    this.homeTeamGoals += 3; // Could be random based on type of throw
+                    this.homeTeamGoals += getPoints(currEvent);
                     
                 } else {
                     //System.out.println("I'm a " + this.awayTeam);
-                    this.awayTeamGoals += 3;
+                    this.awayTeamGoals += getPoints(currEvent);
                     
                 }
 
             }
        }
     } 
+
+    static int getPoints(GameEvent currEvent) {
+        if (currEvent instanceof FreeThrowToAttackingSide || currEvent instanceof Basket ) {
+            return 3; // Could be random based on type of throw
+        }
+        return 0;
+    }
     
     @Override
     public String getScore() {
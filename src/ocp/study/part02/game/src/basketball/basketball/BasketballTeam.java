@@ -6,6 +6,7 @@ package basketball;
 import gameapi.GameEvent;
 
 import gameapi.Player;
+import gameapi.RandomSource;
 
 import gameapi.Team;
 
@@ -26,30 +27,6 @@ public class BasketballTeam implements Team{
     private String detailType = "Team";
 
     public int leaguesWon = 0;
-
-
-    @Override
-    public int compareTo(Team theTeam){
-        int returnValue = -1;
-        if (this.getPointsTotal()< ((BasketballTeam)theTeam).getPointsTotal()) {
-            returnValue = 1;
-        } else if (this.getPointsTotal() == theTeam.getPointsTotal()){
-            if (this.getGoalsTotal()< theTeam.getGoalsTotal()) {
-                returnValue = 1;
-            } 
-        }
-        return returnValue;
-    }
-    
-    @Override
-    public void incGoalsTotal(int goals){
-        this.setGoalsTotal(this.getGoalsTotal() + goals);
-    }
-
-    @Override
-    public void incPointsTotal(int points){
-        this.pointsTotal += points;
-    }
     
     public BasketballTeam(String teamName) {
         this.teamName = teamName;
@@ -57,7 +34,7 @@ public class BasketballTeam implements Team{
     
     public BasketballTeam(String teamName, Player[] players) {
         this(teamName);
-        this.playerArray = players;
+        this.playerArray = players.clone();     // so the caller can't change the roster
     }
     
     public BasketballTeam() {}
@@ -71,61 +48,41 @@ public class BasketballTeam implements Team{
     }
 
     /**
-     * @param teamName the teamName to set
+     * @return a copy of the players, so the roster can't be changed
      */
     @Override
-    public void setTeamName(String teamName) {
-        this.teamName = teamName;
+    public Player[] getPlayerArray() {
+        return playerArray.clone();
     }
 
-    /**
-     * @return the playerArray
-     */
     @Override
-    public Player[] getPlayerArray() {
-        return playerArray;
+    public int getPlayerCount() {
+        return playerArray.length;
     }
 
-    /**
-     * @param playerArray the playerArray to set
-     */
     @Override
-    public void setPlayerArray(Player[] playerArray) {
-        this.playerArray = playerArray;
+    public Player getPlayer(int index) {
+        return playerArray[index];
     }
 
     /**
      * @return the pointsTotal
      */
+    @Deprecated
     @Override
     public int getPointsTotal() {
         return pointsTotal;
     }
 
-    /**
-     * @param pointsTotal the pointsTotal to set
-     */
-    @Override
-    public void setPointsTotal(int pointsTotal) {
-        this.pointsTotal = pointsTotal;
-    }
-
     /**
      * @return the goalsTotal
      */
+    @Deprecated
     @Override
     public int getGoalsTotal() {
         return goalsTotal;
     }
 
-    /**
-     * @param goalsTotal the goalsTotal to set
-     */
-    @Override
-    public void setGoalsTotal(int goalsTotal) {
-        this.goalsTotal = goalsTotal;
-    }
-    
     @Override
     public String toString(){
         return teamName;
@@ -186,9 +143,20 @@ public class BasketballTeam implements Team{
     
     @Override
     public GameEvent getNextPlayAttempt(GameEvent currEvent){
+        return getNextPlayAttempt(currEvent, RandomSource.threadLocal());
+    }
+
+    @Override
+    public GameEvent getNextPlayAttempt(GameEvent currEvent, RandomSource random){
         
 
 	int ballPos = currEvent.getBallPos();
+
+        // No team is favored, so pick straight from the event table
+        if (!teamName.equals("xxxxxxxxx") && currEvent instanceof BasketballEvent) {
+            return BasketballEventTable.newNextEvent((BasketballEvent) currEvent, random);
+        }
+
     GameEvent[] possEvents = currEvent.getNextEvents();
 
                 // Easy way to modify code to favor a particular team
@@ -226,7 +194,7 @@ public class BasketballTeam implements Team{
 		}
 
 		// All events equally likely
-        currEvent = possEvents[(int) (Math.random() * (possEvents.length))];
+        currEvent = possEvents[random.nextInt(possEvents.length)];
 			//System.out.println(currEvent + " - Not a Shoot, cos ball pos is " + ballPos);
 			//System.out.println(teamName + " : " + currEvent + " - Not a Shoot, cos ball pos is " + ballPos);
         return currEvent;
@@ -12,6 +12,11 @@ public class Dribble extends BasketballEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.DRIBBLE;
+    }
+
     public String toString() {
         return "Dribble ";
     }
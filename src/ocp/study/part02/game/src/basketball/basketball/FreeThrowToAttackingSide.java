@@ -11,6 +11,11 @@ public class FreeThrowToAttackingSide extends BasketballEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.FREE_THROW_TO_ATTACKING_SIDE;
+    }
+
     public String toString() {
         return "Fouled. Free throw.";
     }
@@ -12,6 +12,11 @@ public class FreeThrowToDefendingSide extends BasketballEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.FREE_THROW_TO_DEFENDING_SIDE;
+    }
+
     public String toString() {
         return "Fouled. Possession given to other side";
     }
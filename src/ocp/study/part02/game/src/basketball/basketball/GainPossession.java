@@ -11,6 +11,11 @@ public class GainPossession extends BasketballEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.GAIN_POSSESSION;
+    }
+
     public String toString() {
         return "WON possession ";
     }
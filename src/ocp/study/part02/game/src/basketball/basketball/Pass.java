@@ -10,6 +10,11 @@ class Pass extends BasketballEvent  {
         
     }
     
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.PASS;
+    }
+
     public String toString() {
         return "Pass attempt ";
     }
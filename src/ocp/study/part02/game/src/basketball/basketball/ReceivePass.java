@@ -10,6 +10,11 @@ class ReceivePass extends BasketballEvent  {
         super();
         
     }    
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.RECEIVE_PASS;
+    }
+
     public String toString() {
         return "Receive pass ";
     }
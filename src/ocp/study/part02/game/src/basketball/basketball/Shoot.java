@@ -14,10 +14,16 @@ class Shoot extends BasketballEvent {
 		// ternary operator below for ballPos
 		//int odds = (int)(Math.pow((isHomeTeam?ballPos:reverseBallPos()),2)/200);
 		// Below indicate 100% chance if ball at 100 yards!
-		int odds = (int)(Math.pow(ballPos,2)/100);
+		int odds = BasketballEventTable.getShootOdds(ballPos);
 
 		return odds;
     }    
+
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.SHOOT;
+    }
+
     public String toString() {
         return "SHOOTS ";
     }
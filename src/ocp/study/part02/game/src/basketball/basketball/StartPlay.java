@@ -9,6 +9,11 @@ class StartPlay extends BasketballEvent  {  // Really it's a special Pass
 
     }
 
+    @Override
+    public int getEventType() {
+        return BasketballEventTable.START_PLAY;
+    }
+
     public String toString() {
         return "Start play "; // This will cause a problem with the first StartPlay
     }
@@ -9,33 +9,16 @@ import gameapi.Game;
 
 import gameapi.GameProvider;
 import java.time.LocalDateTime;
-import java.util.ServiceLoader;
 
 
 
 public class Factory {
     
-    static GameProvider theProvider = null;
-    
+    // Providers are looked up in a map built once, so games of different
+    // types can be created from any number of threads at once
     public static GameProvider getProvider(String gameType) {
         
-        if ((theProvider != null)
-                && theProvider.getType().equals(gameType)) {
-            return theProvider;
-        }
-        
-        
-        ServiceLoader<GameProvider> loader = ServiceLoader.load(GameProvider.class);
-        
-        for (GameProvider currProvider: loader){
-            //System.out.println(currProvider.getClass() + " : " + currProvider.hashCode());
-            if (currProvider.getType().equalsIgnoreCase(gameType)){
-                theProvider = currProvider;
-                
-                break;
-            }
-  
-        }
+        GameProvider theProvider = GameProvider.forType(gameType);
 
         if (theProvider == null) {
             throw new RuntimeException("No suitable service provider found !");
@@ -47,22 +30,25 @@ public class Factory {
     
     public static Team createTeam(String gameType, String teamName, Player[] thePlayers) {
 
-        theProvider = getProvider(gameType);
-        return theProvider.getTeam(teamName.trim(), thePlayers);
+        return getProvider(gameType).getTeam(teamName.trim(), thePlayers);
 
     }
     
     public static Game createGame(String gameType, Team homeTeam, Team awayTeam, LocalDateTime dateOfGame) {
 
-        theProvider = getProvider(gameType);
-        return theProvider.getGame(homeTeam, awayTeam, dateOfGame);
+        return getProvider(gameType).getGame(homeTeam, awayTeam, dateOfGame);
+
+    }
+
+    public static Game createGame(String gameType, Team homeTeam, Team awayTeam, LocalDateTime dateOfGame, boolean compactEventLog) {
+
+        return getProvider(gameType).getGame(homeTeam, awayTeam, dateOfGame, compactEventLog);
 
     }
     
     public static Player createPlayer(String gameType, String playerName) {
 
-        theProvider = getProvider(gameType);
-        return theProvider.getPlayer(playerName);
+        return getProvider(gameType).getPlayer(playerName);
 
     }    
 }
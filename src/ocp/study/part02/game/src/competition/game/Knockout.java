@@ -3,22 +3,30 @@
 package game;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 
 import java.util.stream.Collectors;
 
 import utils.Settings;
 import gameapi.Game;
-import gameapi.GameEvent;
+import gameapi.GameWriter;
 import gameapi.GameResult;
 import gameapi.Player;
+import gameapi.RandomSource;
 import gameapi.Team;
+import gameapi.TeamRanking;
+import gameapi.TournamentJournal;
 import gameapi.TournamentType;
 /**
  *
@@ -52,67 +60,84 @@ public class Knockout implements TournamentType {
         return this.teams;
     }
 
+    private static final TeamRanking RANKING = new TeamRanking(Settings.WINNER_GAME_POINTS, Settings.DRAWN_GAME_POINTS);
     private String gameType;
 
     private List<List<Game>> games;
     private Team[] teams;
+    private Executor executor;
+    private RandomSource random = RandomSource.threadLocal();
+    private TournamentJournal journal;
+    private GameWriter writer;
+    private boolean compactEventLog;
+    private TournamentMetrics metrics = TournamentStatistics.getShared();
+    private PlayerStats playerStats;
+    private Standings standings;
+    private int nextGameId;    // games are numbered round by round
+
+    /**
+     * @param executor the executor (e.g. a ForkJoinPool) to play the games on,
+     * or null to play them one after another on the calling thread
+     */
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
 
-    // TODO - tidy this method
-    // Maybe this should be half of showBestTeam
-    // Do we really need teams here? Can we get from the Games?
-    public void setTeamStats(Team[] theTeams, Game[] theGames) {
+    // Games are given their splits in bracket order whether played in parallel
+    // or not, so the same seed always gives the same winner
+    @Override
+    public void setRandom(RandomSource random) {
+        this.random = random;
+    }
 
-        // zero all Team scores and Player scores
-        for (Team currTeam : theTeams) {
-            currTeam.setGoalsTotal(0);
-            currTeam.setPointsTotal(0);
-            // zero all Player scores
-            for (Player currPlayer : currTeam.getPlayerArray()) {
-                currPlayer.setGoalsScored(0);
-            }
-        }
+    // A restored game brings its winner with it, so later rounds are drawn
+    // the same as before
+    @Override
+    public void setJournal(TournamentJournal journal) {
+        this.journal = journal;
+    }
 
-        // Repopulate goalsTotal and pointsTotal on each Team object
-        //
-        // Note all that is needed from GameResult is:
-        // 1. Is the game drawn?
-        // 2. Who won the game? (no winner equals drawn? but not good to pass null).
-        // 3. What did homeTeam score, what did awayTeam score?
-        //
-        // Should be possible to get homeTeam and awayTeam from currGame
-        for (Game currGame : theGames) {
+    @Override
+    public void setGameWriter(GameWriter writer) {
+        this.writer = writer;
+    }
 
-            GameResult theResult = currGame.getGameResult(); // 
-            //IGameResult theResult = new GameResult(currGame); // Maybe above is better
+    @Override
+    public void setCompactEventLog(boolean compactEventLog) {
+        this.compactEventLog = compactEventLog;
+    }
 
-            // Increment pointsTotal on Team
-            if (theResult.isDrawnGame()) {
-                currGame.getHomeTeam().incPointsTotal(Settings.DRAWN_GAME_POINTS);   // Another way to do it currGame vs. theResult
-                theResult.getAwayTeam().incPointsTotal(Settings.DRAWN_GAME_POINTS);
-            } else {
-                theResult.getWinner().incPointsTotal(Settings.WINNER_GAME_POINTS);
-            }
+    // null to play without telling anything about the games
+    public void setMetrics(TournamentMetrics metrics) {
+        this.metrics = metrics;
+    }
 
-            // Increment goalsTotal in Team
-            theResult.getHomeTeam().incGoalsTotal(theResult.getHomeTeamScore());
-            theResult.getAwayTeam().incGoalsTotal(theResult.getAwayTeamScore());
+    // Team totals are kept in a Standings rather than on the Team objects, so
+    // other tournaments can use the same teams at the same time
+    public void setTeamStats(Game[] theGames) {
+        standings = Standings.fromGames(getTeamsFromGames(theGames), theGames);
+    }
 
-        }
+    // Totals for theTeams, matched to the games by name
+    public void setTeamStats(Team[] theTeams, Game[] theGames) {
+        standings = Standings.fromGames(theTeams, theGames);
     }
 
+    /**
+     * @return the team totals, or null if setTeamStats hasn't been called
+     */
+    public Standings getStandings() {
+        return standings;
+    }
+
+    // Orders theTeams by points, goal difference, goals and head-to-head in the games
     public void showBestTeam(Team[] theTeams) {
 
-        // Note below method puts last first and first last if no scoring at all!
-        Arrays.sort(theTeams);
+        Team[] rankedTeams = RANKING.rank(theTeams, getGames());
+        System.arraycopy(rankedTeams, 0, theTeams, 0, theTeams.length);
         Team currBestTeam = theTeams[0];
 
-        // Increment league counter
-        //currBestTeam.leaguesWon++;
-        //System.out.println("\nTeam Points");       
-        for (Team currTeam : theTeams) {
-            //System.out.println(currTeam.getTeamName() + " : " + currTeam.getPointsTotal() + " : " + currTeam.getGoalsTotal());
-
-        }
         // XX Temp commented out - wd be better returning it anyway. 
         System.out.println("Winner of the competition is " + currBestTeam.getTeamName());
 
@@ -128,45 +153,54 @@ public class Knockout implements TournamentType {
                 + thePeriod.getDays() + " day(s)\n";
     }
 
-    // Should this zero all players first therefore make getAllPlayers() a util method? TODO
+    // For games that weren't played here, taking the teams from the games
     public void setPlayerStats(Game[] theGames) {
+        playerStats = PlayerStats.fromGames(getTeamsFromGames(theGames), theGames);
+    }
+
+    // Every team that played, in the order they first appear. Games read
+    // back from a file each have their own copy of a team, so one is kept per name.
+    private static Team[] getTeamsFromGames(Game[] theGames) {
+        Map<String, Team> theTeams = new LinkedHashMap<>();
         for (Game currGame : theGames) {
-            for (GameEvent currEvent : currGame.getEvents()) {
-                if (currEvent.isGoal()) {
-                    currEvent.getThePlayer().incGoalsScored();
-                }
-            }
+            theTeams.putIfAbsent(currGame.getHomeTeam().getTeamName(), currGame.getHomeTeam());
+            theTeams.putIfAbsent(currGame.getAwayTeam().getTeamName(), currGame.getAwayTeam());
         }
+        return theTeams.values().toArray(new Team[0]);
+    }
 
+    /**
+     * @return the goals scored by each player, updated as each game is played
+     */
+    public PlayerStats getPlayerStats() {
+        return playerStats;
     }
 
-    public void showBestPlayersByLeague() {
-        ArrayList<Player> thePlayers = new ArrayList<>();
-        for (Team currTeam : teams) {
-            thePlayers.addAll(Arrays.asList(currTeam.getPlayerArray()));
-        }
+    /**
+     * @return the top scorers, as they stand
+     */
+    public Leaderboard getLeaderboard() {
+        return new Leaderboard(playerStats);
+    }
 
-        Collections.sort(thePlayers, (p1, p2) -> Double.valueOf(p2.getGoalsScored()).compareTo(Double.valueOf(p1.getGoalsScored())));
+    public void showBestPlayersByLeague() {
 
-        // How to get the team the player is in? TODO.
         System.out.println("\n\nBest Players in League");
-        for (Player currPlayer : thePlayers) {
-            System.out.println(currPlayer.getPlayerName() + " : " + currPlayer.getGoalsScored());
+        for (Player currPlayer : getLeaderboard().getTopScorers(Settings.BEST_PLAYERS_SHOWN)) {
+            System.out.println(currPlayer.getPlayerName() + " (" + playerStats.getTeam(currPlayer).getTeamName()
+                    + ") : " + playerStats.getGoals(currPlayer));
         }
     }
 
     public void showBestPlayersByTeam() {
 
         for (Team currTeam : teams) {
-            Arrays.sort(currTeam.getPlayerArray(), (p1, p2) -> Double.valueOf(p2.getGoalsScored()).compareTo(Double.valueOf(p1.getGoalsScored())));
-
             System.out.println("\n\nBest Players in " + currTeam.getTeamName());
-            for (Player currPlayer : currTeam.getPlayerArray()) {
-                System.out.println(currPlayer.getPlayerName() + " : " + currPlayer.getGoalsScored());
+            for (Player currPlayer : getLeaderboard().getTopScorers(currTeam, Settings.BEST_PLAYERS_SHOWN)) {
+                System.out.println(currPlayer.getPlayerName() + " : " + playerStats.getGoals(currPlayer));
             }
 
         }
-
     }
 
     // Returns a round of games - is this correct? Or should it return tree with some games not 
@@ -187,7 +221,10 @@ public class Knockout implements TournamentType {
             //theGames.add(GameFactory.getGame(gameType, teams[i], teams[i + 1], LocalDateTime.now().plusDays(daysBetweenGames)));
             //System.out.println("Getting GameFactory --> " + gameType);
             //theGames.add(GameFactory.getProvider(gameType).getGame(teams[i], teams[i + 1], LocalDateTime.now().plusDays(daysBetweenGames)));
-            theGames.add(Factory.createGame(gameType, teams[i], teams[i + 1], LocalDateTime.now().plusDays(daysBetweenGames)));
+            Game theGame = Factory.createGame(gameType, teams[i], teams[i + 1], LocalDateTime.now().plusDays(daysBetweenGames), compactEventLog);
+            theGame.setId(nextGameId++);
+            theGame.setRandom(random.split());
+            theGames.add(theGame);
 
         }
 
@@ -198,6 +235,14 @@ public class Knockout implements TournamentType {
     @Override
     public void createAndPlayAllGames() {   // TODO return something to indicate success? winner? list?
 
+        nextGameId = 0;
+        playerStats = new PlayerStats(teams);
+
+        if (executor != null) {
+            games = playBracket();
+            return;
+        }
+
         List<Game> gameRound = null;
         GameResult thisGame = null;
 
@@ -229,17 +274,10 @@ public class Knockout implements TournamentType {
             // Play all the games in each round
             int i = 0;
             for (Game currGame : gameRound) {
-                currGame.playGame();
-                while (currGame.getGameResult().isDrawnGame()) {
-                    //thisGame = currGame.getGameResult();
-                    //System.out.println("Replaying " + thisGame.getHomeTeam() + "/"  + thisGame.getAwayTeam() );
-                    currGame.playGame(); // Or penalties?
-                }
-                thisGame = currGame.getGameResult();
                 //System.out.print("Round " + round + ":" + thisGame.getHomeTeam() + "/"  + thisGame.getAwayTeam() );
                 //System.out.println("  (" + thisGame.getWinner()+ ")" );
                 // Teams to promote to next round
-                teams[i] = currGame.getGameResult().getWinner();
+                teams[i] = playUntilWon(currGame);
 
                 i++;
             }
@@ -249,12 +287,93 @@ public class Knockout implements TournamentType {
         // Need to convert to flat array, then call below,
         // then convert back
         //
-        //this.setTeamStats(teams, theGames);
+        //this.setTeamStats(theGames);
         //this.setPlayerStats(theGames);
         //this.showBestTeam(teams); // Sets team order in the GRID
         games = allGames;
     }
 
+    // Drawn knockout games are replayed until there is a winner
+    private Team playUntilWon(Game currGame) {
+        if (journal == null || !journal.restore(currGame)) {
+            play(currGame);
+            while (currGame.getGameResult().isDrawnGame()) {
+                if (metrics != null) {
+                    metrics.gameReplayed();
+                }
+                play(currGame); // Or penalties?
+            }
+            if (journal != null) {
+                journal.record(currGame);
+            }
+        }
+        write(currGame);
+        playerStats.addGoals(currGame);    // only the replay that was won counts
+        return currGame.getGameResult().getWinner();
+    }
+
+    private void write(Game currGame) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(currGame);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private void play(Game currGame) {
+        if (metrics == null) {
+            currGame.playGame();
+        } else {
+            metrics.play(currGame);
+        }
+    }
+
+    // Plays the whole bracket on the executor. Each tie in the next round is
+    // created and played as soon as both of the games feeding it have a winner,
+    // rather than waiting for the rest of the round to finish.
+    private List<List<Game>> playBracket() {
+
+        List<List<Game>> allGames = new ArrayList<>();
+
+        Game[] firstRound = this.createGames(gameType);
+        allGames.add(Arrays.asList(firstRound));
+
+        List<CompletableFuture<Team>> winners = new ArrayList<>();
+        for (Game currGame : firstRound) {
+            winners.add(CompletableFuture.supplyAsync(() -> playUntilWon(currGame), executor));
+        }
+
+        while (winners.size() > 1) {
+            // Filled in as each tie is created, all are set once the final is won
+            Game[] nextRound = new Game[winners.size() / 2];
+            List<CompletableFuture<Team>> nextWinners = new ArrayList<>();
+
+            for (int i = 0; i < nextRound.length; i++) {
+                int gameNum = i;
+                LocalDateTime dateOfGame = LocalDateTime.now().plusDays((i + 1) * Settings.DAYS_BETWEEN_GAMES);
+                int gameId = nextGameId++;
+                RandomSource gameRandom = random.split();
+
+                nextWinners.add(winners.get(2 * i).thenCombineAsync(winners.get(2 * i + 1), (homeTeam, awayTeam) -> {
+                    Game currGame = Factory.createGame(gameType, homeTeam, awayTeam, dateOfGame, compactEventLog);
+                    currGame.setId(gameId);
+                    currGame.setRandom(gameRandom);
+                    nextRound[gameNum] = currGame;
+                    return playUntilWon(currGame);
+                }, executor));
+            }
+
+            allGames.add(Arrays.asList(nextRound));
+            winners = nextWinners;
+        }
+
+        teams = new Team[] { winners.get(0).join() };
+        return allGames;
+    }
+
 //    public void saveGamesToJSONFile(String dirName, String filename) {
 //            // Call util method to create flat array
 //            Game[] allGames = this.flatten2DListToArray(games);
@@ -0,0 +1,117 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+import gameapi.Player;
+import gameapi.Team;
+
+
+// The top scorers in a tournament, overall or in one team, picked out of its
+// PlayerStats on demand, so the leaderboard is always as live as the stats.
+// A game's goals are added to the stats once it has been played, so the
+// leaderboard moves a game at a time, not a goal at a time.
+//
+// The top k are chosen with a bounded heap of player IDs, O(n log k),
+// instead of sorting everyone. Players level on goals are listed in roster
+// order.
+public class Leaderboard {
+
+    private final PlayerStats theStats;
+
+    public Leaderboard(PlayerStats theStats) {
+        this.theStats = theStats;
+    }
+
+    /**
+     * @return the k top scorers in the tournament, best first
+     * @throws IllegalArgumentException if k is negative
+     */
+    public Player[] getTopScorers(int k) {
+        return getTopScorers(0, theStats.getPlayerCount(), k);
+    }
+
+    /**
+     * @return the k top scorers in the team, best first
+     * @throws IllegalArgumentException if k is negative
+     */
+    public Player[] getTopScorers(Team theTeam, int k) {
+        return getTopScorers(theStats.getFirstPlayerId(theTeam), theStats.getEndPlayerId(theTeam), k);
+    }
+
+    private Player[] getTopScorers(int from, int to, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Can't list the top " + k + " scorers");
+        }
+
+        // Snapshot of the goals, so the order can't change while the heap is built
+        int[] score = new int[to - from];
+        for (int i = from; i < to; i++) {
+            score[i - from] = theStats.getGoals(i);
+        }
+
+        // Min-heap of the best k so far, worst at the root
+        int[] heap = new int[Math.min(k, score.length)];
+        int heapSize = 0;
+        for (int i = 0; i < score.length; i++) {
+            if (heapSize < heap.length) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, score);
+            } else if (heap.length > 0 && isBetter(i, heap[0], score)) {
+                heap[0] = i;
+                siftDown(heap, heapSize, score);
+            }
+        }
+
+        // Taking the root each time gives worst first, so fill from the end
+        Player[] topScorers = new Player[heapSize];
+        while (heapSize > 0) {
+            topScorers[heapSize - 1] = theStats.getPlayer(from + heap[0]);
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, score);
+        }
+        return topScorers;
+    }
+
+    // More goals, or as many and earlier in the rosters
+    private static boolean isBetter(int a, int b, int[] score) {
+        return score[a] > score[b] || (score[a] == score[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int pos, int[] score) {
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            if (!isBetter(heap[parent], heap[pos], score)) {
+                break;
+            }
+            swap(heap, parent, pos);
+            pos = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, int[] score) {
+        int pos = 0;
+        while (true) {
+            int worst = pos;
+            int left = 2 * pos + 1;
+            int right = left + 1;
+            if (left < size && isBetter(heap[worst], heap[left], score)) {
+                worst = left;
+            }
+            if (right < size && isBetter(heap[worst], heap[right], score)) {
+                worst = right;
+            }
+            if (worst == pos) {
+                return;
+            }
+            swap(heap, pos, worst);
+            pos = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int temp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = temp;
+    }
+
+}
@@ -2,17 +2,21 @@
 
 package game;
 
-import gameapi.GameEvent;
-import gameapi.GameResult;
 import gameapi.Team;
 import gameapi.Player;
 import gameapi.Game;
+import gameapi.GameWriter;
+import gameapi.RandomSource;
+import gameapi.TeamRanking;
+import gameapi.TournamentJournal;
 import gameapi.TournamentType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 
 import utils.Settings;
@@ -41,9 +45,18 @@ public class League implements TournamentType{
     }
     
     static String dirName = "data";
+    private static final TeamRanking RANKING = new TeamRanking(Settings.WINNER_GAME_POINTS, Settings.DRAWN_GAME_POINTS);
     private String gameType;
     private Game[] games;
     private Team[] teams;
+    private Executor executor;
+    private RandomSource random = RandomSource.threadLocal();
+    private TournamentJournal journal;
+    private GameWriter writer;
+    private boolean compactEventLog;
+    private TournamentMetrics metrics = TournamentStatistics.getShared();
+    private Standings standings;
+    private PlayerStats playerStats;
 
     
     public League(String gameType, Team[] theTeams) {
@@ -52,7 +65,7 @@ public class League implements TournamentType{
             System.exit(0);
             //throw new Exception("");
         }
-        this.teams = theTeams;
+        this.teams = theTeams.clone();     // reordered by showBestTeam, so not the caller's array
         this.gameType = gameType;
     }  
     
@@ -62,7 +75,7 @@ public class League implements TournamentType{
             System.exit(0);
             //throw new Exception("");
         }
-        this.teams = theTeams;
+        this.teams = theTeams.clone();
         this.gameType = gameType;
     } 
     
@@ -78,7 +91,10 @@ public class League implements TournamentType{
                    daysBetweenGames += Settings.DAYS_BETWEEN_GAMES;
                    
                    // *** this is where the Soccer game is instantiated
-                   theGames.add(Factory.createGame(gameType, homeTeam, awayTeam, LocalDateTime.now().plusDays(daysBetweenGames)));
+                   Game theGame = Factory.createGame(gameType, homeTeam, awayTeam, LocalDateTime.now().plusDays(daysBetweenGames), compactEventLog);
+                   theGame.setId(theGames.size());
+                   theGame.setRandom(random.split());
+                   theGames.add(theGame);
 
                } 
             
@@ -91,54 +107,130 @@ public class League implements TournamentType{
     }
     
 
-    public void setTeamStats() {
+    /**
+     * @param executor the executor (e.g. a ForkJoinPool) to play the games on,
+     * or null to play them one after another on the calling thread
+     */
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
 
-        
-        // zero all Team scores and Player scores
-        for (Team currTeam: getTeams()){
-            currTeam.setGoalsTotal(0);
-            currTeam.setPointsTotal(0);
-                    // zero all Player scores
-            for (Player currPlayer: currTeam.getPlayerArray()){
-                currPlayer.setGoalsScored(0);
+    @Override
+    public void setRandom(RandomSource random) {
+        this.random = random;
+    }
+
+    @Override
+    public void setJournal(TournamentJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public void setGameWriter(GameWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void setCompactEventLog(boolean compactEventLog) {
+        this.compactEventLog = compactEventLog;
+    }
+
+    // null to play without telling anything about the games
+    public void setMetrics(TournamentMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the table as it stands, updated as each game is played
+     */
+    public Standings getStandings() {
+        return standings;
+    }
+
+    /**
+     * @return the goals scored by each player, updated as each game is played
+     */
+    public PlayerStats getPlayerStats() {
+        return playerStats;
+    }
+
+    /**
+     * @return the top scorers, as they stand
+     */
+    public Leaderboard getLeaderboard() {
+        setPlayerStats();
+        return new Leaderboard(playerStats);
+    }
+
+    public void playGames() {
+        standings = new Standings(getTeams());
+        playerStats = new PlayerStats(getTeams());
+
+        if (executor == null) {
+            for (Game currGame : getGames()) {
+                playGame(currGame);
             }
+            return;
         }
-        
-        // Repopulate goalsTotal and pointsTotal on each Team object
-        //
-        // Note all that is needed from GameResult is:
-        // 1. Is the game drawn?
-        // 2. Who won the game? (no winner equals drawn? but not good to pass null).
-        // 3. What did homeTeam score, what did awayTeam score?
-        //
-        
-        for (Game currGame: getGames()){
-            
-            GameResult theResult = currGame.getGameResult(); // 
-            //IGameResult theResult = new GameResult(currGame); // Maybe above is better
-            
-            // Increment pointsTotal on Team
-            if (theResult.isDrawnGame()) {
-                currGame.getHomeTeam().incPointsTotal(Settings.DRAWN_GAME_POINTS);   // Another way to do it currGame vs. theResult
-                theResult.getAwayTeam().incPointsTotal(Settings.DRAWN_GAME_POINTS);
-            }
 
-            else {
-                theResult.getWinner().incPointsTotal(Settings.WINNER_GAME_POINTS);
+        // Each game only reads its teams and players while it is played, so
+        // they can all be played at the same time. Each one adds its result
+        // to the standings and player stats on the thread it was played on,
+        // as it finishes. Both are kept in an order that doesn't depend on
+        // which game finishes first, so they end up the same as a sequential run.
+        Game[] theGames = getGames();
+        CompletableFuture<?>[] playedGames = new CompletableFuture<?>[theGames.length];
+        for (int i = 0; i < theGames.length; i++) {
+            Game currGame = theGames[i];
+            playedGames[i] = CompletableFuture.runAsync(() -> playGame(currGame), executor);
+        }
+        CompletableFuture.allOf(playedGames).join();
+    }
+
+    private void playGame(Game currGame) {
+        if (journal == null || !journal.restore(currGame)) {
+            if (metrics == null) {
+                currGame.playGame();
+            } else {
+                metrics.play(currGame);
+            }
+            if (journal != null) {
+                journal.record(currGame);
             }
-            
-            // Increment goalsTotal in Team
-            theResult.getHomeTeam().incGoalsTotal(theResult.getHomeTeamScore());
-            theResult.getAwayTeam().incGoalsTotal(theResult.getAwayTeamScore());
-            
+        }
+        write(currGame);
+        standings.add(currGame.getGameResult());
+        playerStats.addGoals(currGame);
+    }
+
+    private void write(Game currGame) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(currGame);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    // Team totals stay in the standings rather than on the Team objects, so
+    // other tournaments can use the same teams at the same time
+    public void setTeamStats() {
+
+        // Games read back from a file weren't played here, so total them now
+        if (standings == null) {
+            standings = Standings.fromGames(getTeams(), getGames());
         }
     }
     
 
+    // Orders theTeams by points, goal difference, goals and head-to-head in the games
     public void showBestTeam(Team[] theTeams) {
         
-	// Note below method puts last first and first last if no scoring at all!
-        Arrays.sort(theTeams);
+        Team[] rankedTeams = RANKING.rank(theTeams, getGames());
+        System.arraycopy(rankedTeams, 0, theTeams, 0, theTeams.length);
         Team currBestTeam = theTeams[0];  
 
       
@@ -165,39 +257,28 @@ public class League implements TournamentType{
     
 
     public void setPlayerStats() {
-        for (Game currGame : getGames()) {
-            for (GameEvent currEvent : currGame.getEvents()) {
-                if (currEvent.isGoal()) {
-                    currEvent.getThePlayer().incGoalsScored();
-                }
-            }
-        }
 
+        // Games read back from a file weren't played here, so total them now
+        if (playerStats == null) {
+            playerStats = PlayerStats.fromGames(getTeams(), getGames());
+        }
     }
     
     public void showBestPlayers(Team[] theTeams){
-        ArrayList <Player> thePlayers = new ArrayList<>();
-        for (Team currTeam: theTeams){
-            thePlayers.addAll(Arrays.asList(currTeam.getPlayerArray()));
-        }
-        
-        Collections.sort(thePlayers, (p1, p2) -> Double.valueOf(p2.getGoalsScored()).compareTo(Double.valueOf(p1.getGoalsScored())));
-        
-        // How to get the team the player is in? TODO.
+
         System.out.println("\n\nBest Players in League");
-        for (Player currPlayer: thePlayers){
-            System.out.println(currPlayer.getPlayerName() + " : " + currPlayer.getGoalsScored());
+        for (Player currPlayer: getLeaderboard().getTopScorers(Settings.BEST_PLAYERS_SHOWN)){
+            System.out.println(currPlayer.getPlayerName() + " (" + playerStats.getTeam(currPlayer).getTeamName()
+                    + ") : " + playerStats.getGoals(currPlayer));
         }
     }    
     
     public void showBestPlayersByTeam(Team[] theTeams){
 
         for (Team currTeam: theTeams){
-            Arrays.sort(currTeam.getPlayerArray(), (p1, p2) -> Double.valueOf(p2.getGoalsScored()).compareTo(Double.valueOf(p1.getGoalsScored())));
-
             System.out.println("\n\nBest Players in " + currTeam.getTeamName());
-            for (Player currPlayer: currTeam.getPlayerArray()){
-                System.out.println(currPlayer.getPlayerName() + " : " + currPlayer.getGoalsScored());
+            for (Player currPlayer: getLeaderboard().getTopScorers(currTeam, Settings.BEST_PLAYERS_SHOWN)){
+                System.out.println(currPlayer.getPlayerName() + " : " + playerStats.getGoals(currPlayer));
             }
         
         }
@@ -223,10 +304,7 @@ public class League implements TournamentType{
     
     public void createAndPlayAllGames() {
         this.createGames();
-        for (Game currGame : this.getGames()) {
-            currGame.playGame();
-
-        }
+        this.playGames();
         this.setTeamStats();
         this.setPlayerStats();
         this.showBestTeam(getTeams()); // Sets team order in the GRID
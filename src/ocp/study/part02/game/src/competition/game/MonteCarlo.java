@@ -0,0 +1,330 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+import gameapi.Game;
+import gameapi.GameResult;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gameapi.TournamentType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import utils.Settings;
+
+
+// Plays the same tournament over and over (each replica with its own split
+// of the seed) to estimate how likely each team is to win it, and what
+// points and goals they can expect. Tournaments keep their stats to
+// themselves, so every replica plays the same teams.
+//
+// Replicas are played in batches across the executor. After each batch the
+// totals so far are passed to the listener, and the run stops once every
+// team's win probability is known to within the tolerance. Win intervals are
+// Wilson score intervals, which stay wide for a team that has won none (or
+// all) of the replicas so far, where the normal approximation would give 0.
+public class MonteCarlo {
+
+    // 95% confidence
+    private static final double Z = 1.96;
+
+    private final String tourneyType;
+    private final String gameType;
+    private final Team[] theTeams;
+    private final Map<String, Integer> teamIndex = new HashMap<>();
+
+    private Executor executor = ForkJoinPool.commonPool();
+    private RandomSource random = RandomSource.threadLocal();
+    private int batchSize = 100;
+    private int minReplicas = 100;
+    private int maxReplicas = 100_000;
+    private double tolerance = 0.01;
+
+    public MonteCarlo(String tourneyType, String gameType, Team[] theTeams) {
+        this.tourneyType = tourneyType;
+        this.gameType = gameType;
+        this.theTeams = theTeams;
+        for (int i = 0; i < theTeams.length; i++) {
+            teamIndex.put(theTeams[i].getTeamName(), i);
+        }
+    }
+
+    /**
+     * @param executor the executor the replicas are played on
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    // Replica n always gets the same split, so a seeded run is repeatable
+    public void setRandom(RandomSource random) {
+        this.random = random;
+    }
+
+    /**
+     * @param batchSize the number of replicas played between checks
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param minReplicas the number of replicas to play before stopping early
+     * @param maxReplicas the number of replicas to stop at regardless
+     */
+    public void setReplicas(int minReplicas, int maxReplicas) {
+        this.minReplicas = minReplicas;
+        this.maxReplicas = maxReplicas;
+    }
+
+    /**
+     * @param tolerance stop once the 95% interval of every win probability
+     * is within +/- this
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public Estimate run() {
+        return run(estimate -> { });
+    }
+
+    public Estimate run(Consumer<Estimate> onBatch) {
+
+        Estimate estimate = new Estimate(teamNames());
+
+        while (estimate.getReplicas() < maxReplicas) {
+
+            int numReplicas = Math.min(batchSize, maxReplicas - estimate.getReplicas());
+
+            // Splits are handed out here, in order, not on the worker threads
+            List<CompletableFuture<Replica>> batch = new ArrayList<>(numReplicas);
+            for (int i = 0; i < numReplicas; i++) {
+                RandomSource replicaRandom = random.split();
+                batch.add(CompletableFuture.supplyAsync(() -> playReplica(replicaRandom), executor));
+            }
+            CompletableFuture.allOf(batch.toArray(new CompletableFuture<?>[0])).join();
+
+            for (CompletableFuture<Replica> played : batch) {
+                estimate.add(played.join());
+            }
+            onBatch.accept(estimate);
+
+            if (estimate.getReplicas() >= minReplicas && estimate.getMaxWinInterval() <= tolerance) {
+                break;
+            }
+        }
+
+        return estimate;
+    }
+
+    private Replica playReplica(RandomSource replicaRandom) {
+
+        TournamentType theTourney = TournamentFactory.getTournament(tourneyType, gameType, theTeams);
+        theTourney.setRandom(replicaRandom);
+        theTourney.createAndPlayAllGames();
+
+        // Totalled from the games, as a Knockout doesn't set team stats
+        Replica replica = new Replica(theTeams.length);
+        for (Game currGame : theTourney.getGames()) {
+            GameResult theResult = currGame.getGameResult();
+            int homeIndex = teamIndex.get(currGame.getHomeTeam().getTeamName());
+            int awayIndex = teamIndex.get(currGame.getAwayTeam().getTeamName());
+
+            if (theResult.isDrawnGame()) {
+                replica.points[homeIndex] += Settings.DRAWN_GAME_POINTS;
+                replica.points[awayIndex] += Settings.DRAWN_GAME_POINTS;
+            } else {
+                replica.points[teamIndex.get(theResult.getWinner().getTeamName())] += Settings.WINNER_GAME_POINTS;
+            }
+            replica.goals[homeIndex] += theResult.getHomeTeamScore();
+            replica.goals[awayIndex] += theResult.getAwayTeamScore();
+        }
+
+        // League orders its teams best first, Knockout is left with just the winner
+        replica.winner = teamIndex.get(theTourney.getTeams()[0].getTeamName());
+        return replica;
+    }
+
+    private String[] teamNames() {
+        String[] teamNames = new String[theTeams.length];
+        for (int i = 0; i < theTeams.length; i++) {
+            teamNames[i] = theTeams[i].getTeamName();
+        }
+        return teamNames;
+    }
+
+    private static class Replica {
+        private int winner;
+        private final int[] points;
+        private final int[] goals;
+
+        Replica(int numTeams) {
+            points = new int[numTeams];
+            goals = new int[numTeams];
+        }
+    }
+
+
+    // Running totals of all the replicas played so far, by team index
+    public static class Estimate {
+
+        private final String[] teamNames;
+        private final long[] wins;
+        private final long[][] pointsCounts;     // replicas by team and points
+        private final long[][] goalsCounts;
+        private final double[] pointsSum;
+        private final double[] pointsSumSq;
+        private final double[] goalsSum;
+        private final double[] goalsSumSq;
+        private int replicas;
+
+        Estimate(String[] teamNames) {
+            this.teamNames = teamNames;
+            wins = new long[teamNames.length];
+            pointsSum = new double[teamNames.length];
+            pointsSumSq = new double[teamNames.length];
+            goalsSum = new double[teamNames.length];
+            goalsSumSq = new double[teamNames.length];
+            pointsCounts = new long[teamNames.length][0];
+            goalsCounts = new long[teamNames.length][0];
+        }
+
+        void add(Replica replica) {
+            wins[replica.winner]++;
+            for (int i = 0; i < teamNames.length; i++) {
+                pointsSum[i] += replica.points[i];
+                pointsSumSq[i] += (double) replica.points[i] * replica.points[i];
+                goalsSum[i] += replica.goals[i];
+                goalsSumSq[i] += (double) replica.goals[i] * replica.goals[i];
+                pointsCounts[i] = count(pointsCounts[i], replica.points[i]);
+                goalsCounts[i] = count(goalsCounts[i], replica.goals[i]);
+            }
+            replicas++;
+        }
+
+        public int getReplicas() {
+            return replicas;
+        }
+
+        public int getNumTeams() {
+            return teamNames.length;
+        }
+
+        public String getTeamName(int team) {
+            return teamNames[team];
+        }
+
+        public double getWinProbability(int team) {
+            return replicas == 0 ? 0 : (double) wins[team] / replicas;
+        }
+
+        // Bounds of the 95% Wilson interval of the win probability
+        public double getWinLower(int team) {
+            return replicas == 0 ? 0 : getWinCentre(team) - getWinInterval(team);
+        }
+
+        public double getWinUpper(int team) {
+            return replicas == 0 ? 1 : getWinCentre(team) + getWinInterval(team);
+        }
+
+        // Half width of the 95% Wilson interval
+        public double getWinInterval(int team) {
+            if (replicas == 0) {
+                return 0.5;
+            }
+            double p = getWinProbability(team);
+            double n = replicas;
+            return Z / (1 + Z * Z / n) * Math.sqrt(p * (1 - p) / n + Z * Z / (4 * n * n));
+        }
+
+        private double getWinCentre(int team) {
+            double n = replicas;
+            return (getWinProbability(team) + Z * Z / (2 * n)) / (1 + Z * Z / n);
+        }
+
+        /**
+         * @return the number of replicas in which the team got each number of
+         * points, indexed by points
+         */
+        public long[] getPointsDistribution(int team) {
+            return pointsCounts[team].clone();
+        }
+
+        /**
+         * @return the number of replicas in which the team scored each number
+         * of goals, indexed by goals
+         */
+        public long[] getGoalsDistribution(int team) {
+            return goalsCounts[team].clone();
+        }
+
+        public double getMeanPoints(int team) {
+            return mean(pointsSum[team]);
+        }
+
+        public double getPointsInterval(int team) {
+            return interval(pointsSum[team], pointsSumSq[team]);
+        }
+
+        public double getMeanGoals(int team) {
+            return mean(goalsSum[team]);
+        }
+
+        public double getGoalsInterval(int team) {
+            return interval(goalsSum[team], goalsSumSq[team]);
+        }
+
+        double getMaxWinInterval() {
+            double maxInterval = 0;
+            for (int i = 0; i < teamNames.length; i++) {
+                maxInterval = Math.max(maxInterval, getWinInterval(i));
+            }
+            return maxInterval;
+        }
+
+        private static long[] count(long[] counts, int value) {
+            if (value >= counts.length) {
+                counts = Arrays.copyOf(counts, value + 1);
+            }
+            counts[value]++;
+            return counts;
+        }
+
+        private double mean(double sum) {
+            return replicas == 0 ? 0 : sum / replicas;
+        }
+
+        private double interval(double sum, double sumSq) {
+            if (replicas < 2) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double mean = sum / replicas;
+            double variance = Math.max(0, (sumSq - replicas * mean * mean) / (replicas - 1));
+            return Z * Math.sqrt(variance / replicas);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder returnString = new StringBuilder();
+            returnString.append("After " + replicas + " tournaments\n");
+            for (int i = 0; i < teamNames.length; i++) {
+                returnString.append(String.format("%-12s win %5.1f%% (%.1f - %.1f)  points %6.2f (+/- %.2f)  goals %6.2f (+/- %.2f)%n",
+                        teamNames[i],
+                        getWinProbability(i) * 100, getWinLower(i) * 100, getWinUpper(i) * 100,
+                        getMeanPoints(i), getPointsInterval(i),
+                        getMeanGoals(i), getGoalsInterval(i)));
+            }
+            return returnString.toString();
+        }
+
+    }
+
+}
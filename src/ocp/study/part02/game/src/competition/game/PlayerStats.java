@@ -0,0 +1,161 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+import gameapi.Game;
+import gameapi.GameEvent;
+import gameapi.Player;
+import gameapi.Team;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+
+// The player stats for one tournament, kept here rather than on the Player
+// objects, so tournaments sharing the same teams don't overwrite each
+// other's totals.
+//
+// Players are given IDs 0 to n - 1, team by team, and stats are kept in
+// arrays indexed by player ID. Each goal event is counted once, as its game
+// finishes, from whichever thread played it.
+//
+// Games read back from a file have their own copies of the teams and
+// players, so those are found by team name and player name.
+public class PlayerStats {
+
+    private static final int NOT_FOUND = -1;
+    private static final int AMBIGUOUS = -2;
+
+    private final Team[] theTeams;
+    private final Player[] thePlayers;      // by player ID
+    private final int[] playerTeam;         // index in theTeams, by player ID
+    private final int[] teamStart;          // team t's players start at teamStart[t]
+    private final Map<Player, Integer> playerIds = new IdentityHashMap<>();
+    private final Map<String, Integer> playerNames = new HashMap<>();    // AMBIGUOUS if on more than one team
+    private final Map<String, Integer> teamIndex = new HashMap<>();
+    private final AtomicIntegerArray goals;
+
+    public PlayerStats(Team[] theTeams) {
+        this.theTeams = theTeams.clone();
+        teamStart = new int[theTeams.length + 1];
+        for (int t = 0; t < theTeams.length; t++) {
+            if (teamIndex.putIfAbsent(theTeams[t].getTeamName(), t) != null) {
+                throw new IllegalArgumentException(theTeams[t].getTeamName() + " is in the tournament twice");
+            }
+            teamStart[t + 1] = teamStart[t] + theTeams[t].getPlayerArray().length;
+        }
+
+        thePlayers = new Player[teamStart[theTeams.length]];
+        playerTeam = new int[thePlayers.length];
+        for (int t = 0; t < theTeams.length; t++) {
+            Player[] teamPlayers = theTeams[t].getPlayerArray();
+            for (int i = 0; i < teamPlayers.length; i++) {
+                int id = teamStart[t] + i;
+                thePlayers[id] = teamPlayers[i];
+                playerTeam[id] = t;
+                playerIds.put(teamPlayers[i], id);
+                playerNames.merge(teamPlayers[i].getPlayerName(), id, (a, b) -> AMBIGUOUS);
+            }
+        }
+        goals = new AtomicIntegerArray(thePlayers.length);
+    }
+
+    // For games that were played elsewhere, e.g. read back from a file
+    public static PlayerStats fromGames(Team[] theTeams, Game[] theGames) {
+        PlayerStats theStats = new PlayerStats(theTeams);
+        for (Game currGame : theGames) {
+            theStats.addGoals(currGame);
+        }
+        return theStats;
+    }
+
+    public void addGoals(Game theGame) {
+        for (GameEvent currEvent : theGame.getEvents()) {
+            if (currEvent.isGoal()) {
+                goals.incrementAndGet(getPlayerId(currEvent.getTheTeam(), currEvent.getThePlayer()));
+            }
+        }
+    }
+
+    /**
+     * @return the number of players in the tournament
+     */
+    public int getPlayerCount() {
+        return thePlayers.length;
+    }
+
+    // A player from another copy of the teams can only be found by name
+    // alone if no other team has a player of the same name
+    public int getPlayerId(Player thePlayer) {
+        Integer id = playerIds.get(thePlayer);
+        if (id == null) {
+            id = playerNames.get(thePlayer.getPlayerName());
+        }
+        if (id == null) {
+            throw new IllegalArgumentException(thePlayer.getPlayerName() + " is not in this tournament");
+        }
+        if (id == AMBIGUOUS) {
+            throw new IllegalArgumentException(thePlayer.getPlayerName() + " plays for more than one team, give the team too");
+        }
+        return id;
+    }
+
+    public int getPlayerId(Team theTeam, Player thePlayer) {
+        int id = findPlayerId(getTeamIndex(theTeam), thePlayer.getPlayerName());
+        if (id == NOT_FOUND) {
+            throw new IllegalArgumentException(thePlayer.getPlayerName() + " is not in " + theTeam.getTeamName());
+        }
+        return id;
+    }
+
+    public Player getPlayer(int playerId) {
+        return thePlayers[playerId];
+    }
+
+    /**
+     * @return the team the player plays for
+     */
+    public Team getTeam(Player thePlayer) {
+        return theTeams[playerTeam[getPlayerId(thePlayer)]];
+    }
+
+    public int getGoals(Player thePlayer) {
+        return goals.get(getPlayerId(thePlayer));
+    }
+
+    public int getGoals(int playerId) {
+        return goals.get(playerId);
+    }
+
+    // The team's players have IDs from getFirstPlayerId() up to, but not
+    // including, getEndPlayerId()
+    int getFirstPlayerId(Team theTeam) {
+        return teamStart[getTeamIndex(theTeam)];
+    }
+
+    int getEndPlayerId(Team theTeam) {
+        return teamStart[getTeamIndex(theTeam) + 1];
+    }
+
+    private int getTeamIndex(Team theTeam) {
+        Integer index = teamIndex.get(theTeam.getTeamName());
+        if (index == null) {
+            throw new IllegalArgumentException(theTeam.getTeamName() + " is not in this tournament");
+        }
+        return index;
+    }
+
+    // Teams are small, so a search of the team's players is enough. Two
+    // players of the same name on one team can't be told apart in a file,
+    // so goals read back for either go to the first.
+    private int findPlayerId(int team, String playerName) {
+        for (int id = teamStart[team]; id < teamStart[team + 1]; id++) {
+            if (thePlayers[id].getPlayerName().equals(playerName)) {
+                return id;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+}
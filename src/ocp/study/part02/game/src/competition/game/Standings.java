@@ -0,0 +1,170 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+import gameapi.Game;
+import gameapi.GameResult;
+import gameapi.Team;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+import utils.Settings;
+
+
+// A league table kept in order as results come in. Each result moves just
+// its two teams, O(log n) each, so the table can be read at any point while
+// the games are still being played.
+//
+// Teams are ordered by points, goal difference, goals, then their order in
+// the league. Head-to-head (see TeamRanking) can't be kept up incrementally,
+// so it's only applied to the final order.
+//
+// Rows are found by team name, as games read back from a file have their
+// own copy of each team rather than the ones the standings were made with.
+public class Standings {
+
+    private static final Comparator<Row> ORDER = Comparator
+            .comparingInt((Row row) -> -row.points)
+            .thenComparingInt(row -> row.goalsAgainst - row.goalsFor)
+            .thenComparingInt(row -> -row.goalsFor)
+            .thenComparingInt(row -> row.index);
+
+    private final Map<String, Row> rows = new HashMap<>();
+    private final TreeSet<Row> table = new TreeSet<>(ORDER);
+
+    public Standings(Team[] theTeams) {
+        for (int i = 0; i < theTeams.length; i++) {
+            Row row = new Row(theTeams[i], i);
+            if (rows.putIfAbsent(theTeams[i].getTeamName(), row) != null) {
+                throw new IllegalArgumentException(theTeams[i].getTeamName() + " is in the standings twice");
+            }
+            table.add(row);
+        }
+    }
+
+    // For games that were played elsewhere, e.g. read back from a file
+    public static Standings fromGames(Team[] theTeams, Game[] theGames) {
+        Standings theStandings = new Standings(theTeams);
+        for (Game currGame : theGames) {
+            theStandings.add(currGame.getGameResult());
+        }
+        return theStandings;
+    }
+
+    // Results can come in from the threads the games are played on
+    public synchronized void add(GameResult theResult) {
+
+        Row home = getRow(theResult.getHomeTeam());
+        Row away = getRow(theResult.getAwayTeam());
+        int homeScore = theResult.getHomeTeamScore();
+        int awayScore = theResult.getAwayTeamScore();
+
+        // Out and back in, as the set is ordered on what is about to change
+        table.remove(home);
+        table.remove(away);
+
+        home.played++;
+        away.played++;
+        home.goalsFor += homeScore;
+        home.goalsAgainst += awayScore;
+        away.goalsFor += awayScore;
+        away.goalsAgainst += homeScore;
+
+        if (theResult.isDrawnGame()) {
+            home.drawn++;
+            away.drawn++;
+            home.points += Settings.DRAWN_GAME_POINTS;
+            away.points += Settings.DRAWN_GAME_POINTS;
+        } else {
+            Row winner = homeScore > awayScore ? home : away;
+            Row loser = winner == home ? away : home;
+            winner.won++;
+            loser.lost++;
+            winner.points += Settings.WINNER_GAME_POINTS;
+        }
+
+        table.add(home);
+        table.add(away);
+    }
+
+    /**
+     * @return the first k teams in the table, best first
+     * @throws IllegalArgumentException if k is negative
+     */
+    public synchronized Team[] getTop(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Can't list the top " + k + " teams");
+        }
+        Team[] topTeams = new Team[Math.min(k, table.size())];
+        Iterator<Row> it = table.iterator();
+        for (int i = 0; i < topTeams.length; i++) {
+            topTeams[i] = it.next().team;
+        }
+        return topTeams;
+    }
+
+    /**
+     * @return all the teams in table order, best first
+     */
+    public synchronized Team[] getTeams() {
+        return getTop(table.size());
+    }
+
+    public synchronized int getPoints(Team theTeam) {
+        return getRow(theTeam).points;
+    }
+
+    public synchronized int getGoalsFor(Team theTeam) {
+        return getRow(theTeam).goalsFor;
+    }
+
+    public synchronized int getGoalsAgainst(Team theTeam) {
+        return getRow(theTeam).goalsAgainst;
+    }
+
+    public synchronized int getPlayed(Team theTeam) {
+        return getRow(theTeam).played;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder returnString = new StringBuilder();
+        returnString.append(String.format("%-4s %-12s %3s %3s %3s %3s %5s %5s %4s%n", "", "Team", "P", "W", "D", "L", "F", "A", "Pts"));
+        int position = 1;
+        for (Row row : table) {
+            returnString.append(String.format("%-4d %-12s %3d %3d %3d %3d %5d %5d %4d%n",
+                    position++, row.team.getTeamName(), row.played, row.won, row.drawn, row.lost,
+                    row.goalsFor, row.goalsAgainst, row.points));
+        }
+        return returnString.toString();
+    }
+
+    private Row getRow(Team theTeam) {
+        Row row = rows.get(theTeam.getTeamName());
+        if (row == null) {
+            throw new IllegalArgumentException(theTeam.getTeamName() + " is not in the standings");
+        }
+        return row;
+    }
+
+    private static class Row {
+        private final Team team;
+        private final int index;
+        private int played;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+        private int points;
+
+        Row(Team team, int index) {
+            this.team = team;
+            this.index = index;
+        }
+    }
+
+}
@@ -7,6 +7,9 @@ package game;
 
 import gameapi.Team;
 import gameapi.TournamentType;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.ServiceLoader;
 
 /**
@@ -24,25 +27,29 @@ public class TournamentFactory {
   
     }
     
+    // A new tournament every time, as each one keeps its own games and stats
     public static TournamentType getTournament(String name) {
         
-        TournamentType theTourney = null;
-        ServiceLoader<TournamentType> sl = ServiceLoader.load(TournamentType.class);
+        ServiceLoader.Provider<TournamentType> theProvider = Registry.TOURNAMENTS.get(name.toLowerCase(Locale.ROOT));
         
-        for ( TournamentType currTournament: sl) {
-            
-            if (currTournament.getName().equalsIgnoreCase(name)) {
-                  theTourney = currTournament;
-                  break;
-            }
-
-        }
-        
-        if (theTourney == null) {
+        if (theProvider == null) {
             throw new RuntimeException("No suitable service provider found!");
         } 
 
-        return theTourney;
+        return theProvider.get();
+    }
+
+    // The tournament types by name, found once when first used. Each one is
+    // created once here to get its name, the rest come from Provider.get().
+    private static class Registry {
+        static final Map<String, ServiceLoader.Provider<TournamentType>> TOURNAMENTS = load();
+
+        private static Map<String, ServiceLoader.Provider<TournamentType>> load() {
+            Map<String, ServiceLoader.Provider<TournamentType>> tournaments = new HashMap<>();
+            ServiceLoader.load(TournamentType.class).stream()
+                    .forEach(provider -> tournaments.putIfAbsent(provider.get().getName().toLowerCase(Locale.ROOT), provider));
+            return Map.copyOf(tournaments);
+        }
     }
     
 }
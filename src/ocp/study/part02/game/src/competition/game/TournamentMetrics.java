@@ -0,0 +1,40 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+import gameapi.Game;
+
+
+// Told about every game a tournament plays, e.g. to see where the time goes
+// when a tournament is slow. Called from the threads the games are played on,
+// many at once, so implementations need to be thread safe and cheap.
+//
+// See TournamentStatistics for the one tournaments use unless told otherwise.
+public interface TournamentMetrics {
+
+    /**
+     * @param nanos how long playGame() took
+     */
+    void gamePlayed(Game theGame, long nanos);
+
+    // A drawn knockout game is about to be played again
+    void gameReplayed();
+
+    // A thread has started or finished playing a game
+    void workerStarted();
+
+    void workerFinished();
+
+    // Plays the game, telling this about it
+    default void play(Game theGame) {
+        workerStarted();
+        try {
+            long start = System.nanoTime();
+            theGame.playGame();
+            gamePlayed(theGame, System.nanoTime() - start);
+        } finally {
+            workerFinished();
+        }
+    }
+
+}
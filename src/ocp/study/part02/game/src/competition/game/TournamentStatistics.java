@@ -0,0 +1,191 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+import gameapi.Game;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+
+// Counts of the games played, and how long they took, in every tournament
+// using it. By default that's all of them (see getShared()), and register()
+// makes the counts visible over JMX.
+//
+// Every count is a LongAdder, so threads playing games at the same time don't
+// fight over a counter, and the counts can be left on. Play times go into
+// buckets, eight for each power of two nanoseconds, so percentiles are only
+// out by up to an eighth, but recording one is still just an add.
+public class TournamentStatistics implements TournamentMetrics, TournamentStatisticsMBean {
+
+    public static final String OBJECT_NAME = "game:type=TournamentStatistics";
+
+    private static final TournamentStatistics SHARED = new TournamentStatistics();
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final LongAdder gamesPlayed = new LongAdder();
+    private final LongAdder eventsPlayed = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder activeWorkers = new LongAdder();
+    private final LongAdder playNanos = new LongAdder();
+    private final LongAdder[] playTimes = new LongAdder[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+    private volatile long startNanos = System.nanoTime();
+
+    public TournamentStatistics() {
+        for (int i = 0; i < playTimes.length; i++) {
+            playTimes[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the statistics tournaments use unless given others
+     */
+    public static TournamentStatistics getShared() {
+        return SHARED;
+    }
+
+    // Under OBJECT_NAME in the platform MBean server
+    public void register() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    @Override
+    public void gamePlayed(Game theGame, long nanos) {
+        gamesPlayed.increment();
+        eventsPlayed.add(theGame.getEventCount());
+        playNanos.add(nanos);
+        playTimes[getBucket(nanos)].increment();
+    }
+
+    @Override
+    public void gameReplayed() {
+        replays.increment();
+    }
+
+    @Override
+    public void workerStarted() {
+        activeWorkers.increment();
+    }
+
+    @Override
+    public void workerFinished() {
+        activeWorkers.decrement();
+    }
+
+    @Override
+    public long getGamesPlayed() {
+        return gamesPlayed.sum();
+    }
+
+    @Override
+    public long getEventsPlayed() {
+        return eventsPlayed.sum();
+    }
+
+    @Override
+    public long getReplays() {
+        return replays.sum();
+    }
+
+    @Override
+    public long getActiveWorkers() {
+        return activeWorkers.sum();
+    }
+
+    // Since the statistics were created or last reset
+    @Override
+    public double getGamesPerSecond() {
+        return perSecond(gamesPlayed.sum());
+    }
+
+    @Override
+    public double getEventsPerSecond() {
+        return perSecond(eventsPlayed.sum());
+    }
+
+    @Override
+    public double getMeanPlayGameMillis() {
+        long games = gamesPlayed.sum();
+        return games == 0 ? 0 : toMillis(playNanos.sum()) / games;
+    }
+
+    // The top of the bucket the 99th percentile falls in, so never too low
+    @Override
+    public double getP99PlayGameMillis() {
+        long[] counts = new long[playTimes.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = playTimes[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * 0.99);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return toMillis(getBucketEnd(i));
+            }
+        }
+        return toMillis(getBucketEnd(counts.length - 1));
+    }
+
+    // Games finishing while this runs may be counted in some totals and not others
+    @Override
+    public void reset() {
+        gamesPlayed.reset();
+        eventsPlayed.reset();
+        replays.reset();
+        playNanos.reset();
+        for (LongAdder bucket : playTimes) {
+            bucket.reset();
+        }
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games (%.0f/s), %d events (%.0f/s), %d replays, play time mean %.3f ms, p99 %.3f ms",
+                getGamesPlayed(), getGamesPerSecond(), getEventsPlayed(), getEventsPerSecond(), getReplays(),
+                getMeanPlayGameMillis(), getP99PlayGameMillis());
+    }
+
+    // Below SUB_BUCKETS a bucket each, then SUB_BUCKETS buckets between each
+    // power of two and the next
+    private static int getBucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(nanos, 0);
+        }
+        int log2 = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int shift = log2 - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    // One past the largest time in the bucket
+    private static long getBucketEnd(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long start = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        long end = start + (1L << shift);
+        return end < 0 ? Long.MAX_VALUE : end;     // the last bucket
+    }
+
+    private double perSecond(long count) {
+        double seconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds <= 0 ? 0 : count / seconds;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package game;
+
+
+// What TournamentStatistics shows over JMX, e.g. in JConsole
+public interface TournamentStatisticsMBean {
+
+    long getGamesPlayed();
+
+    long getEventsPlayed();
+
+    long getReplays();
+
+    /**
+     * @return the number of games being played right now
+     */
+    long getActiveWorkers();
+
+    double getGamesPerSecond();
+
+    double getEventsPerSecond();
+
+    double getMeanPlayGameMillis();
+
+    double getP99PlayGameMillis();
+
+    // Starts counting again from zero
+    void reset();
+
+}
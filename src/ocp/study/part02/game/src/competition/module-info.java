@@ -5,6 +5,7 @@
  */
 module competition {
     requires transitive gameapi;
+    requires transitive java.management;
 
     exports game;
     exports utils;
@@ -12,5 +12,8 @@ public class Settings {
 
     static public final int DRAWN_GAME_POINTS = 1;
     static public final int WINNER_GAME_POINTS = 2;
+
+    // Number of top scorers listed by showBestPlayers
+    static public final int BEST_PLAYERS_SHOWN = 10;
     
 }
@@ -0,0 +1,80 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+import java.util.function.IntFunction;
+
+
+// A game type's events compiled into arrays indexed by getEventType(), so a
+// game can check and pick events without creating and comparing the arrays
+// returned by getNextEvents() and getNextFailEvent(). Event types must be
+// numbered 0 to numEventTypes - 1.
+public final class EventTable<E extends GameEvent> {
+
+    private final Class<E> eventClass;
+    private final IntFunction<? extends E> factory;
+
+    // Same events, in the same order, as getNextEvents() for each type
+    private final int[][] nextEvents;
+    private final int[] nextFailEvent;
+    private final boolean[][] isNextEvent;
+
+    /**
+     * @param eventClass the game type's events, other events are never next events
+     * @param numEventTypes the number of event types
+     * @param factory makes a new event of the given type
+     */
+    public EventTable(Class<E> eventClass, int numEventTypes, IntFunction<? extends E> factory) {
+        this.eventClass = eventClass;
+        this.factory = factory;
+        nextEvents = new int[numEventTypes][];
+        nextFailEvent = new int[numEventTypes];
+        isNextEvent = new boolean[numEventTypes][numEventTypes];
+
+        for (int type = 0; type < numEventTypes; type++) {
+            E theEvent = newEvent(type);
+            if (theEvent.getEventType() != type) {
+                throw new IllegalArgumentException("Event type " + type + " made a " + theEvent.getClass().getSimpleName()
+                        + " of type " + theEvent.getEventType());
+            }
+
+            GameEvent[] theNextEvents = theEvent.getNextEvents();
+            nextEvents[type] = new int[theNextEvents.length];
+            for (int i = 0; i < theNextEvents.length; i++) {
+                int nextType = theNextEvents[i].getEventType();
+                nextEvents[type][i] = nextType;
+                isNextEvent[type][nextType] = true;
+            }
+
+            nextFailEvent[type] = theEvent.getNextFailEvent()[0].getEventType();
+        }
+    }
+
+    public E newEvent(int type) {
+        return factory.apply(type);
+    }
+
+    // Is nextEvent one of currEvent's getNextEvents()?
+    public boolean isNextEvent(GameEvent currEvent, GameEvent nextEvent) {
+        if (!eventClass.isInstance(currEvent) || !eventClass.isInstance(nextEvent)) {
+            return false;
+        }
+        return isNextEvent[currEvent.getEventType()][nextEvent.getEventType()];
+    }
+
+    /**
+     * @return a new event, picked at random from currEvent's getNextEvents()
+     */
+    public E newNextEvent(E currEvent, RandomSource random) {
+        int[] theNextEvents = nextEvents[currEvent.getEventType()];
+        return newEvent(theNextEvents[random.nextInt(theNextEvents.length)]);
+    }
+
+    /**
+     * @return a new event of the type of currEvent's getNextFailEvent()
+     */
+    public E newNextFailEvent(E currEvent) {
+        return newEvent(nextFailEvent[currEvent.getEventType()]);
+    }
+
+}
@@ -35,6 +35,13 @@ public interface Game {
      */
     GameEvent[] getEvents();
 
+    // Without building the events, for games that keep them more compactly.
+    // 0 for a game that hasn't been played.
+    default int getEventCount() {
+        GameEvent[] theEvents = getEvents();
+        return theEvents == null ? 0 : theEvents.length;
+    }
+
 
     GameResult getGameResult();
 
@@ -70,6 +77,11 @@ public interface Game {
 
     void playGame();
 
+    /**
+     * @param random the source of random numbers used by playGame()
+     */
+    void setRandom(RandomSource random);
+
     /**
      * @param awayTeam the awayTeam to set
      */
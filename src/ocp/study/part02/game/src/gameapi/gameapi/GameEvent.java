@@ -14,6 +14,11 @@ public interface GameEvent {
      */
     int getBallPos();
 
+    /**
+     * @return the type of event, unique within its game type
+     */
+    int getEventType();
+
     GameEvent[] getNextEvents();
 
     GameEvent[] getNextFailEvent();
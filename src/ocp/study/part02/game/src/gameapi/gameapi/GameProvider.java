@@ -9,10 +9,28 @@ public interface GameProvider {
     
     Game getGame(Team homeTeam, Team awayTeam, LocalDateTime plusDays);
 
+    // compactEventLog asks for the events to be kept packed once the game is
+    // played. Game types that don't keep a compact log ignore it.
+    default Game getGame(Team homeTeam, Team awayTeam, LocalDateTime plusDays, boolean compactEventLog) {
+        return getGame(homeTeam, awayTeam, plusDays);
+    }
+
     Player getPlayer(String playerName);
 
     Team getTeam(String teamName, Player[] players);
+
+    // An event of the type returned by GameEvent.getEventType(), with the
+    // ball position it was played with, for reading games back from storage
+    GameEvent getEvent(int eventType, int ballPos);
     
     String getType();
+
+    /**
+     * @return the provider for the game type, in any case, or null if there
+     * isn't one
+     */
+    static GameProvider forType(String gameType) {
+        return GameProviders.get(gameType);
+    }
     
 }
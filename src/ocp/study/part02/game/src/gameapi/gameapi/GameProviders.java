@@ -0,0 +1,35 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+
+// Every GameProvider on the module path, by game type. The providers are
+// found and created once, the first time one is asked for, and the map is
+// never changed after that, so lookups need no locking.
+final class GameProviders {
+
+    private GameProviders() {}
+
+    // Not loaded until first used, and the JVM makes sure that happens once
+    private static class Holder {
+        static final Map<String, GameProvider> PROVIDERS = load();
+    }
+
+    static GameProvider get(String gameType) {
+        return Holder.PROVIDERS.get(gameType.toLowerCase(Locale.ROOT));
+    }
+
+    private static Map<String, GameProvider> load() {
+        Map<String, GameProvider> providers = new HashMap<>();
+        ServiceLoader.load(GameProvider.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .forEach(provider -> providers.putIfAbsent(provider.getType().toLowerCase(Locale.ROOT), provider));
+        return Map.copyOf(providers);
+    }
+
+}
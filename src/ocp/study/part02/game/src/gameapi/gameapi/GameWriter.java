@@ -0,0 +1,15 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+import java.io.IOException;
+
+
+// Where a tournament hands each game once it's finished (played, or restored
+// from the journal), e.g. to write it to a file. Called from whichever
+// threads the games are played on.
+public interface GameWriter {
+
+    void write(Game theGame) throws IOException;
+
+}
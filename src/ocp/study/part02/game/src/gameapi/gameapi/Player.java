@@ -2,17 +2,22 @@
 
 package gameapi;
 
-public interface Player extends Comparable<Player> {
+// Players have no natural order: each tournament keeps its own player stats
+// (see PlayerStats) and ranks its top scorers from them.
+//
+// A player's name is fixed once it's made and tournaments never change a
+// player, so the same players can be shared between tournaments. The goals
+// are only read from game files written before that.
+public interface Player {
 
     String getDetailType();
 
 
-    int compareTo(Player thePlayer);
-
-
     /**
-     * @return the goalsScored
+     * @return the goalsScored, only set in game files written by old versions
+     * @deprecated tournaments keep their own player stats
      */
+    @Deprecated
     int getGoalsScored();
 
     /**
@@ -20,16 +25,4 @@ public interface Player extends Comparable<Player> {
      */
     String getPlayerName();
 
-    void incGoalsScored();
-
-    /**
-     * @param goalsScored the goalsScored to set
-     */
-    void setGoalsScored(int goalsScored);
-
-    /**
-     * @param playerName the playerName to set
-     */
-    void setPlayerName(String playerName);
-    
 }
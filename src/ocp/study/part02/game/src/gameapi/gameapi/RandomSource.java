@@ -0,0 +1,33 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+import java.util.SplittableRandom;
+
+// Source of random numbers for playing games. A seeded source is meant for
+// one thread (e.g. one game) at a time, use split() to give each game its own
+// so a whole tournament can be replayed from a single seed.
+public interface RandomSource {
+
+    /**
+     * @return a random double between 0 (inclusive) and 1 (exclusive)
+     */
+    double nextDouble();
+
+    /**
+     * @return a random int between 0 (inclusive) and bound (exclusive)
+     */
+    int nextInt(int bound);
+
+    RandomSource split();
+
+    static RandomSource seeded(long seed) {
+        return new SeededRandomSource(new SplittableRandom(seed));
+    }
+
+    // Not reproducible, but can be shared by any number of threads without contention
+    static RandomSource threadLocal() {
+        return ThreadLocalRandomSource.INSTANCE;
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+import java.util.SplittableRandom;
+
+
+class SeededRandomSource implements RandomSource {
+
+    private final SplittableRandom random;
+
+    SeededRandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SeededRandomSource(random.split());
+    }
+
+}
@@ -2,10 +2,14 @@
 
 package gameapi;
 
-public interface Team extends Comparable<Team> {
-
-
-    int compareTo(Team theTeam);
+// Teams have no natural order: TeamRanking ranks them on their results in a
+// set of games, and each tournament keeps its own table (see Standings).
+//
+// A team's name and roster are fixed once it's made, and tournaments keep
+// their own totals, so the same teams can be played in any number of
+// tournaments at once. The totals are only read from game files written
+// before that.
+public interface Team {
 
     String getDetailType();
 
@@ -18,22 +22,38 @@ public interface Team extends Comparable<Team> {
     String getGetDetailType();
 
     /**
-     * @return the goalsTotal
+     * @return the goalsTotal, only set in game files written by old versions
+     * @deprecated tournaments keep their own totals
      */
+    @Deprecated
     int getGoalsTotal();
 
     int getID();
 
     GameEvent getNextPlayAttempt(GameEvent currEvent);
 
+    GameEvent getNextPlayAttempt(GameEvent currEvent, RandomSource random);
+
     /**
-     * @return the playerArray
+     * @return a copy of the players, in roster order
      */
     Player[] getPlayerArray();
 
     /**
-     * @return the pointsTotal
+     * @return the number of players
+     */
+    int getPlayerCount();
+
+    /**
+     * @return the player at the index in the roster
      */
+    Player getPlayer(int index);
+
+    /**
+     * @return the pointsTotal, only set in game files written by old versions
+     * @deprecated tournaments keep their own totals
+     */
+    @Deprecated
     int getPointsTotal();
 
     /**
@@ -41,10 +61,6 @@ public interface Team extends Comparable<Team> {
      */
     String getTeamName();
 
-    void incGoalsTotal(int goals);
-
-    void incPointsTotal(int points);
-
     boolean isDetailAvailable();
 
     /**
@@ -57,11 +73,6 @@ public interface Team extends Comparable<Team> {
      */
     void setGetDetailType(String detailType);
 
-    /**
-     * @param goalsTotal the goalsTotal to set
-     */
-    void setGoalsTotal(int goalsTotal);
-
     /**
      * @return the id
      */
@@ -73,21 +84,6 @@ public interface Team extends Comparable<Team> {
      */
     void setId(int id);
 
-    /**
-     * @param playerArray the playerArray to set
-     */
-    void setPlayerArray(Player[] playerArray);
-
-    /**
-     * @param pointsTotal the pointsTotal to set
-     */
-    void setPointsTotal(int pointsTotal);
-
-    /**
-     * @param teamName the teamName to set
-     */
-    void setTeamName(String teamName);
-
     String toString();
     
 }
@@ -0,0 +1,246 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+
+// Orders teams by their results in a set of games, using a chain of tie
+// breaks, e.g. points, then goal difference, then goals scored, then
+// head-to-head. Teams still level after every criterion keep the order they
+// were given in, so the ranking is a total order and the same every time.
+//
+// All the sort keys are totalled into int arrays indexed by team before
+// sorting, rather than worked out again in every comparison, and the teams
+// are sorted as an int array of indexes with a merge sort over the keys, so
+// nothing is boxed.
+//
+// Head-to-head depends on which teams are level with which, so the chain can
+// only be a Comparator once the keys are worked out for a set of teams and
+// games (see comparator()).
+//
+// Teams are matched to the games by name, as games read back from a file
+// have their own copy of each team.
+public class TeamRanking {
+
+    public enum Criterion {
+        POINTS,
+        GOAL_DIFFERENCE,
+        GOALS_SCORED,
+        // Points in the games between the teams level on the criteria before it
+        HEAD_TO_HEAD
+    }
+
+    private final int winPoints;
+    private final int drawPoints;
+    private final Criterion[] criteria;
+
+    public TeamRanking(int winPoints, int drawPoints) {
+        this(winPoints, drawPoints, Criterion.POINTS, Criterion.GOAL_DIFFERENCE, Criterion.GOALS_SCORED, Criterion.HEAD_TO_HEAD);
+    }
+
+    public TeamRanking(int winPoints, int drawPoints, Criterion... criteria) {
+        this.winPoints = winPoints;
+        this.drawPoints = drawPoints;
+        this.criteria = criteria.clone();
+    }
+
+    /**
+     * @return the teams best first
+     * @throws IllegalArgumentException if a game is against a team that isn't
+     * in theTeams, or two of theTeams have the same name
+     */
+    public Team[] rank(Team[] theTeams, Game[] theGames) {
+
+        Keys theKeys = getKeys(theTeams, theGames);
+        int[] order = sortedIndexes(theKeys.keys, theTeams.length);
+
+        Team[] ranked = new Team[theTeams.length];
+        for (int i = 0; i < theTeams.length; i++) {
+            ranked[i] = theTeams[order[i]];
+        }
+        return ranked;
+    }
+
+    /**
+     * @return the order rank() puts theTeams in, for sorting them (or copies
+     * of them, matched by name) elsewhere
+     * @throws IllegalArgumentException if a game is against a team that isn't
+     * in theTeams, or two of theTeams have the same name. The comparator
+     * throws it for a team that isn't in theTeams.
+     */
+    public Comparator<Team> comparator(Team[] theTeams, Game[] theGames) {
+        Keys theKeys = getKeys(theTeams, theGames);
+        return (a, b) -> compare(theKeys.keys,
+                getTeamIndex(theKeys.teamIndex, a), getTeamIndex(theKeys.teamIndex, b));
+    }
+
+    // The sort keys for each criterion, indexed by team
+    private static class Keys {
+        private final Map<String, Integer> teamIndex;
+        private final int[][] keys;
+
+        private Keys(Map<String, Integer> teamIndex, int[][] keys) {
+            this.teamIndex = teamIndex;
+            this.keys = keys;
+        }
+    }
+
+    private Keys getKeys(Team[] theTeams, Game[] theGames) {
+
+        int numTeams = theTeams.length;
+        Map<String, Integer> teamIndex = new HashMap<>();
+        for (int i = 0; i < numTeams; i++) {
+            if (teamIndex.putIfAbsent(theTeams[i].getTeamName(), i) != null) {
+                throw new IllegalArgumentException(theTeams[i].getTeamName() + " is in the ranking twice");
+            }
+        }
+
+        // The results, by index, for the head-to-head pass
+        int numGames = 0;
+        int[] homeTeams = new int[theGames.length];
+        int[] awayTeams = new int[theGames.length];
+        int[] homeScores = new int[theGames.length];
+        int[] awayScores = new int[theGames.length];
+
+        int[] points = new int[numTeams];
+        int[] goalsFor = new int[numTeams];
+        int[] goalsAgainst = new int[numTeams];
+        for (Game currGame : theGames) {
+            int home = getTeamIndex(teamIndex, currGame.getHomeTeam());
+            int away = getTeamIndex(teamIndex, currGame.getAwayTeam());
+            GameResult theResult = currGame.getGameResult();
+            homeTeams[numGames] = home;
+            awayTeams[numGames] = away;
+            homeScores[numGames] = theResult.getHomeTeamScore();
+            awayScores[numGames] = theResult.getAwayTeamScore();
+
+            points[home] += getPoints(homeScores[numGames], awayScores[numGames]);
+            points[away] += getPoints(awayScores[numGames], homeScores[numGames]);
+            goalsFor[home] += homeScores[numGames];
+            goalsAgainst[home] += awayScores[numGames];
+            goalsFor[away] += awayScores[numGames];
+            goalsAgainst[away] += homeScores[numGames];
+            numGames++;
+        }
+
+        int[][] keys = new int[criteria.length][];
+        for (int c = 0; c < criteria.length; c++) {
+            switch (criteria[c]) {
+                case POINTS:
+                    keys[c] = points;
+                    break;
+                case GOALS_SCORED:
+                    keys[c] = goalsFor;
+                    break;
+                case GOAL_DIFFERENCE:
+                    keys[c] = new int[numTeams];
+                    for (int i = 0; i < numTeams; i++) {
+                        keys[c][i] = goalsFor[i] - goalsAgainst[i];
+                    }
+                    break;
+                case HEAD_TO_HEAD:
+                    // Groups of teams level so far can only be found by sorting on the keys so far
+                    int[][] keysSoFar = Arrays.copyOf(keys, c);
+                    int[] order = sortedIndexes(keysSoFar, numTeams);
+                    keys[c] = getHeadToHeadPoints(order, keysSoFar, numGames, homeTeams, awayTeams, homeScores, awayScores);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown criterion " + criteria[c]);
+            }
+        }
+        return new Keys(teamIndex, keys);
+    }
+
+    // The indexes 0 to numTeams - 1 in key order, by a bottom-up merge sort
+    private static int[] sortedIndexes(int[][] keys, int numTeams) {
+        int[] order = new int[numTeams];
+        for (int i = 0; i < numTeams; i++) {
+            order[i] = i;
+        }
+
+        int[] merged = new int[numTeams];
+        for (int width = 1; width < numTeams; width *= 2) {
+            for (int from = 0; from < numTeams; from += 2 * width) {
+                int mid = Math.min(from + width, numTeams);
+                int to = Math.min(from + 2 * width, numTeams);
+                int left = from;
+                int right = mid;
+                for (int i = from; i < to; i++) {
+                    if (right >= to || (left < mid && compare(keys, order[left], order[right]) <= 0)) {
+                        merged[i] = order[left++];
+                    } else {
+                        merged[i] = order[right++];
+                    }
+                }
+            }
+            int[] temp = order;
+            order = merged;
+            merged = temp;
+        }
+        return order;
+    }
+
+    private static int getTeamIndex(Map<String, Integer> teamIndex, Team theTeam) {
+        Integer index = teamIndex.get(theTeam.getTeamName());
+        if (index == null) {
+            throw new IllegalArgumentException(theTeam.getTeamName() + " is not in the ranking");
+        }
+        return index;
+    }
+
+    // Higher keys first, then the order the teams were given in
+    private static int compare(int[][] keys, int a, int b) {
+        for (int[] key : keys) {
+            if (key[a] != key[b]) {
+                return Integer.compare(key[b], key[a]);
+            }
+        }
+        return Integer.compare(a, b);
+    }
+
+    private int[] getHeadToHeadPoints(int[] order, int[][] keysSoFar, int numGames,
+            int[] homeTeams, int[] awayTeams, int[] homeScores, int[] awayScores) {
+
+        // Number the groups of level teams, in the order they were sorted into
+        int[] group = new int[order.length];
+        int groupNum = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0 && !isLevel(keysSoFar, order[i - 1], order[i])) {
+                groupNum++;
+            }
+            group[order[i]] = groupNum;
+        }
+
+        int[] headToHead = new int[order.length];
+        for (int g = 0; g < numGames; g++) {
+            int home = homeTeams[g];
+            int away = awayTeams[g];
+            if (group[home] == group[away]) {
+                headToHead[home] += getPoints(homeScores[g], awayScores[g]);
+                headToHead[away] += getPoints(awayScores[g], homeScores[g]);
+            }
+        }
+        return headToHead;
+    }
+
+    private static boolean isLevel(int[][] keys, int a, int b) {
+        for (int[] key : keys) {
+            if (key[a] != key[b]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getPoints(int score, int otherScore) {
+        if (score > otherScore) {
+            return winPoints;
+        }
+        return score == otherScore ? drawPoints : 0;
+    }
+
+}
@@ -0,0 +1,17 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gameapi;
+
+
+// Where a tournament records each game as it finishes, so a tournament that
+// was stopped part way can be started again without replaying those games.
+// Called from whichever threads the games are played on.
+public interface TournamentJournal {
+
+    // Fills in the game's events if the journal has a game with the same ID
+    // and teams, returning false if it has to be played
+    boolean restore(Game theGame);
+
+    void record(Game theGame);
+
+}
@@ -2,6 +2,7 @@
 
 package gameapi;
 
+import java.util.concurrent.Executor;
 
 public interface TournamentType {
 
@@ -14,4 +15,21 @@ public interface TournamentType {
     String getName();
     
     void populate(String gameType, Team[] theTeam);
+
+    // null plays the games one after another on the calling thread
+    void setExecutor(Executor executor);
+
+    // Each game gets its own split of this, so a seeded source replays the same tournament
+    void setRandom(RandomSource random);
+
+    // Games already in the journal are restored rather than played again,
+    // null for no journal
+    void setJournal(TournamentJournal journal);
+
+    // Each game is written as soon as it's finished, null to not write them
+    void setGameWriter(GameWriter writer);
+
+    // Games keep their events packed once played, for game types that can
+    // (see GameProvider). Set before the games are created.
+    void setCompactEventLog(boolean compactEventLog);
 }
@@ -5,4 +5,6 @@
  */
 module gameapi {
     exports gameapi;
+
+    uses gameapi.GameProvider;
 }
@@ -0,0 +1,136 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package database;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+// The names in a names file, numbered 0 to n - 1 in file order. Each file is
+// memory mapped once and shared by everyone who opens it, so any number of
+// player databases (and the tournaments they feed) use one copy of the names.
+//
+// Only the offset and length of each name is kept up front. A name is made
+// into a String the first time it's asked for, and the same name always
+// comes back as the same String, wherever it is in the file.
+//
+// The file is read when first opened, later changes to it aren't seen.
+public class NameDictionary {
+
+    private static final Map<Path, NameDictionary> SHARED = new ConcurrentHashMap<>();
+
+    private final MappedByteBuffer buffer;
+    private final int[] nameStart;
+    private final int[] nameLength;
+    private final int nameCount;
+    private final String[] names;       // filled in as names are asked for
+    private final Map<String, String> interned = new ConcurrentHashMap<>();
+
+    private NameDictionary(Path thePath) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Names file is too large to map");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());    // stays mapped once closed
+        }
+
+        // A name per line, or several separated by commas. None of the
+        // separators can be part of a multi-byte UTF-8 character.
+        int[] starts = new int[1024];
+        int[] lengths = new int[1024];
+        int count = 0;
+        int start = hasByteOrderMark() ? 3 : 0;
+        int size = buffer.limit();
+        for (int i = start; i <= size; i++) {
+            if (i < size && !isSeparator(buffer.get(i))) {
+                continue;
+            }
+            if (i > start) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                }
+                starts[count] = start;
+                lengths[count] = i - start;
+                count++;
+            }
+            start = i + 1;
+        }
+
+        nameStart = Arrays.copyOf(starts, count);
+        nameLength = Arrays.copyOf(lengths, count);
+        nameCount = count;
+        names = new String[count];
+    }
+
+    /**
+     * @return the dictionary for the file, mapped the first time it's opened
+     */
+    public static NameDictionary open(String dir, String file) throws IOException {
+        Path thePath = Paths.get(dir, file).toAbsolutePath().normalize();
+        try {
+            return SHARED.computeIfAbsent(thePath, path -> {
+                try {
+                    return new NameDictionary(path);
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
+    /**
+     * @return the number of names in the file
+     */
+    public int getNameCount() {
+        return nameCount;
+    }
+
+    public String getName(int id) {
+
+        // Strings are immutable, so another thread seeing a stale null just
+        // looks the name up again and gets the same String
+        String theName = names[id];
+        if (theName == null) {
+            theName = intern(decode(id));
+            names[id] = theName;
+        }
+        return theName;
+    }
+
+    private String intern(String theName) {
+        String existing = interned.putIfAbsent(theName, theName);
+        return existing == null ? theName : existing;
+    }
+
+    private String decode(int id) {
+        byte[] bytes = new byte[nameLength[id]];
+        ByteBuffer view = buffer.duplicate();    // so reads on other threads don't share a position
+        view.position(nameStart[id]);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean hasByteOrderMark() {
+        return buffer.limit() >= 3
+                && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == '\n' || b == '\r' || b == ',';
+    }
+
+}
@@ -5,62 +5,57 @@ package database;
 import utils.*;
 import game.Factory;
 import gameapi.Player;
-import java.io.BufferedReader;
+import gameapi.RandomSource;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
-import java.util.*;
 
 
 public class PlayerDatabase {
     
-    private ArrayList <Player> players;
+    private final String gameType;
+    private final NameDictionary names;      // shared with every other PlayerDatabase
+
+    // Name IDs, the first numUndrafted of them not drafted yet
+    private final int[] undrafted;
+    private int numUndrafted;
     
     public PlayerDatabase(String gameType){
-        String authorNames = readNames();
-        StringTokenizer authorTokens = new StringTokenizer(authorNames, ",");
-        players = new ArrayList<Player>();
-        while (authorTokens.hasMoreTokens()){
-
-            players.add(Factory.createPlayer(gameType, authorTokens.nextToken()));
-
+        this.gameType = gameType;
+        NameDictionary theNames = null;
+        try {
+            theNames = NameDictionary.open(Settings.dirName, Settings.fileName);
+        } catch (IOException x) {
+            System.err.format("IOException: %s%n", x);
         }
-        //System.out.println("Last player in file is " + (players.get(players.size() - 1)).getPlayerName());
+        names = theNames;
+        undrafted = new int[names == null ? 0 : names.getNameCount()];
+        for (int i = 0; i < undrafted.length; i++) {
+            undrafted[i] = i;
+        }
+        numUndrafted = undrafted.length;
     }
     
     public Player[] getTeamPlayers(int numberOfPlayers) throws PlayerDatabaseException {
+        return getTeamPlayers(numberOfPlayers, RandomSource.threadLocal());
+    }
+
+    // One step of a Fisher-Yates shuffle per player, so a draft is O(numberOfPlayers)
+    // however many names there are, and Players are only created for those drafted
+    public Player[] getTeamPlayers(int numberOfPlayers, RandomSource random) throws PlayerDatabaseException {
         Player[] teamPlayers = new Player[numberOfPlayers];
         for (int i = 0; i < numberOfPlayers; i++){
-            int playerIndex = (int) (Math.random() * players.size());
-            try {
-            teamPlayers[i] = players.get(playerIndex);
-            players.remove(playerIndex);
-            }
-            catch(IndexOutOfBoundsException ie){
+            if (numUndrafted == 0) {
                 throw new PlayerDatabaseException("Not enough players in the database for the teams requested.");
             }
+            int pick = random.nextInt(numUndrafted);
+            int nameIndex = undrafted[pick];
+            undrafted[pick] = undrafted[--numUndrafted];
+            undrafted[numUndrafted] = nameIndex;
+            teamPlayers[i] = Factory.createPlayer(gameType, names.getName(nameIndex));
         }
         return teamPlayers;
         
     }
     
-    public static String readNames()  {  
-    String authors = "";
-    Charset charset = Charset.forName("UTF-8");
-    try (BufferedReader reader = Files.newBufferedReader(FileSystems.getDefault().
-            getPath(Settings.dirName,Settings.fileName), charset)) {
-        String line = "";
-        while ((line = reader.readLine()) != null) {
-            //System.out.println(line);
-            authors += line + ",";
-        }
-    } catch (IOException x) {
-        System.err.format("IOException: %s%n", x);
-    }
-    return authors;
-}
-    
     
         
 String authorList = 
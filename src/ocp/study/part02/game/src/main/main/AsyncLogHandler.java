@@ -0,0 +1,181 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package main;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+
+// Writes log records to a file on a background thread, so the threads playing
+// games only have to queue each record. Records are formatted on the writer
+// thread too, so a message with parameters (e.g. "{0} of the {1} team") is
+// only put together there.
+//
+// The writer takes whatever has been queued since it last looked, writes it
+// all and flushes once per batch rather than once per record. The queue is
+// bounded: if the writer falls that far behind, logging threads wait for it
+// rather than records being lost.
+//
+// Records are queued under a read lock and close() queues the end marker
+// under the write lock, so nothing is queued after the marker and no
+// record published before close() is lost.
+public class AsyncLogHandler extends Handler {
+
+    private static final long BATCH_MILLIS = 10;
+    private static final LogRecord END = new LogRecord(Level.OFF, "");
+
+    private final BlockingQueue<LogRecord> queue;
+    private final Writer out;
+    private final Thread writer;
+    private final ReadWriteLock queueing = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    // Records queued, and records written and flushed (or failed), for flush() to wait on
+    private final AtomicLong queued = new AtomicLong();
+    private final Object progress = new Object();
+    private long written;
+
+    /**
+     * @param fileName the file to write to, replacing what's there
+     * @param capacity the number of records that can be waiting to be written
+     */
+    public AsyncLogHandler(String fileName, int capacity) throws IOException {
+        setFormatter(new SimpleFormatter());
+        queue = new ArrayBlockingQueue<>(capacity);
+        out = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8);
+
+        // A daemon, so it doesn't hold up exit. LogManager closes its
+        // handlers on shutdown, and close() waits for the queue to be written.
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        queueing.readLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            queue.put(record);
+            queued.incrementAndGet();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            reportError("Interrupted waiting to queue a log record", ie, ErrorManager.WRITE_FAILURE);
+        } finally {
+            queueing.readLock().unlock();
+        }
+    }
+
+    // Waits until every record queued so far has been written and flushed
+    @Override
+    public void flush() {
+        long target = queued.get();
+        synchronized (progress) {
+            while (written < target && writer.isAlive()) {
+                try {
+                    progress.wait(BATCH_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        queueing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            // The writer keeps taking records, so this doesn't wait long
+            queue.put(END);
+            closed = true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            reportError("Interrupted waiting to end the log", ie, ErrorManager.CLOSE_FAILURE);
+            return;
+        } finally {
+            queueing.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            out.close();
+        } catch (IOException ioe) {
+            reportError("Couldn't close the log file", ioe, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>();
+        boolean ended = false;
+        while (!ended) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ie) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            // Keeps taking records after a write fails, so logging threads never wait on a dead writer
+            try {
+                for (LogRecord record : batch) {
+                    if (record == END) {
+                        ended = true;
+                        break;
+                    }
+                    write(record);
+                }
+                out.flush();
+            } catch (IOException ioe) {
+                reportError("Couldn't write to the log file", ioe, ErrorManager.WRITE_FAILURE);
+            }
+            synchronized (progress) {
+                written += ended ? batch.size() - 1 : batch.size();
+                progress.notifyAll();
+            }
+            batch.clear();
+
+            // Lets records build up rather than waking for each one
+            try {
+                Thread.sleep(BATCH_MILLIS);
+            } catch (InterruptedException ie) {
+                return;
+            }
+        }
+    }
+
+    private void write(LogRecord record) throws IOException {
+        try {
+            out.write(getFormatter().format(record));
+        } catch (RuntimeException re) {
+            reportError("Couldn't format a log record", re, ErrorManager.FORMAT_FAILURE);
+        }
+    }
+
+}
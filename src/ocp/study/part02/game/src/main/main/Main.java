@@ -8,14 +8,18 @@ import displayDiagram.DisplayDetail;
 import database.PlayerDatabaseException;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
-import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
+import javax.management.JMException;
 import game.Factory;
+import game.Standings;
+import game.TournamentStatistics;
 import gameapi.Game;
+import gameapi.RandomSource;
 
 import database.PlayerDatabase;
 import game.TournamentFactory;
@@ -26,7 +30,9 @@ import utils.Settings;
 
 
 public class Main {
-    
+
+    private static final int GRID_PAGE_ROWS = 50;
+    private static final int LOG_QUEUE_SIZE = 64 * 1024;
     
     public static void main(String[] args) {
         
@@ -34,28 +40,42 @@ public class Main {
         String competitionType = "knockout";
         
         try {
-            Handler fh = new FileHandler(Settings.dirName + "/" + gameType + ".log");
-            fh.setFormatter(new SimpleFormatter());
+            // Written on a background thread, so commentary doesn't slow the games down
+            Handler fh = new AsyncLogHandler(Settings.dirName + "/" + gameType + ".log", LOG_QUEUE_SIZE);
             Logger.getLogger("").addHandler(fh);
             Logger.getLogger("").setLevel(Level.FINE);
  
         } catch (IOException ex) {
         }
 
+        // Games played, play times etc. can be watched in JConsole while it runs
+        try {
+            TournamentStatistics.getShared().register();
+        } catch (JMException ex) {
+            ex.printStackTrace(System.err);
+        }
+
         // Create the teams
    
         String teamNames = "Robins, Pelicans, Sparrows, Magpies, Crows, Falcons, Geese, Terns";
         //String teamNames = "Plovers,Ravens,Doves,Robins,Sparrows,Magpies,Crows,Falcons,Pelicans,Geese,Ducks,Eagles,Gulls,Hawks,Owls,Pigeons";
         int teamSize = 5;   // Number of players on each team
+
+        // Use RandomSource.seeded(...) instead to replay exactly the same tournament every run
+        RandomSource random = RandomSource.threadLocal();
+
         Team[] theTeams = null;
         try {
 
-            theTeams = createTeams(gameType, teamNames, teamSize);  
+            theTeams = createTeams(gameType, teamNames, teamSize, random);  
         } catch (PlayerDatabaseException e) {
             e.printStackTrace(System.err);
         }
         
         TournamentType theCompetition = TournamentFactory.getTournament(competitionType, gameType, theTeams);
+        theCompetition.setExecutor(null);   // e.g. ForkJoinPool.commonPool() to play the games at the same time
+        theCompetition.setRandom(random);
+        theCompetition.setGameWriter(null);   // e.g. a storage.JSONGameWriter, to write each game to a file as it finishes
 
         
         // Create and play all games using these teams and competition type
@@ -63,8 +83,7 @@ public class Main {
         
         // Display results
         if (competitionType.equals("league")) {
-            DisplayDetail[][] dataGrid = getDataGrid(theCompetition.getGames(), theCompetition.getTeams());
-            Display.outputTextGrid(dataGrid); 
+            outputDataGrid(theCompetition.getGames(), theCompetition.getTeams());
         } else if (competitionType.equals("knockout")) {
             DisplayDetail[] dataKnockout = getData(theCompetition.getGames());
             Display.printDataTree(dataKnockout);
@@ -77,82 +96,89 @@ public class Main {
     }
 
    
-    private static DisplayDetail[][] getDataGrid(Game[] theGames, Team[] theTeams) {
+    // Large leagues are output a page of rows at a time, each page with the
+    // headings, so the whole grid is never held at once
+    private static void outputDataGrid(Game[] theGames, Team[] theTeams) {
+
+        Game[][] fixtures = getFixtures(theGames, theTeams);
+        Standings standings = Standings.fromGames(theTeams, theGames);
+        DisplayDetail[] headings = getGridHeadings(theGames, theTeams);
+
+        for (int first = 0; first < theTeams.length; first += GRID_PAGE_ROWS) {
+            int pageRows = Math.min(GRID_PAGE_ROWS, theTeams.length - first);
+            DisplayDetail[][] thePage = new DisplayDetail[pageRows + 1][];
+            thePage[0] = headings;
+            for (int i = 0; i < pageRows; i++) {
+                thePage[i + 1] = getGridRow(fixtures, standings, theTeams, first + i);
+            }
+            Display.outputTextGrid(thePage);
+        }
+    }
 
-        int numTeams = theTeams.length;
+    // The games indexed by home team and away team (index in theTeams), in
+    // one pass over the games rather than a search for each cell
+    private static Game[][] getFixtures(Game[] theGames, Team[] theTeams) {
 
-        // Size of grid allow for extra column on the left for list of Teams, and two 
-        // extra columns on right for Points and Goals. Also extra column on top for list of
-        // Teams.
-        DisplayDetail[][] theGrid = new DisplayDetail[numTeams + 1][numTeams + 3];
+        Map<String, Integer> teamIndex = new HashMap<>();
+        for (int i = 0; i < theTeams.length; i++) {
+            teamIndex.put(theTeams[i].getTeamName(), i);
+        }
 
-        int colNum = 0;
-        int rowNum = 0;
+        Game[][] fixtures = new Game[theTeams.length][theTeams.length];
+        for (Game theGame : theGames) {
+            Integer homeIndex = teamIndex.get(theGame.getHomeTeam().getTeamName());
+            Integer awayIndex = teamIndex.get(theGame.getAwayTeam().getTeamName());
+            // First game wins if a pair plays more than once, as before
+            if (homeIndex != null && awayIndex != null && fixtures[homeIndex][awayIndex] == null) {
+                fixtures[homeIndex][awayIndex] = theGame;
+            }
+        }
+        return fixtures;
+    }
 
-        // Starting at 0, 0, insert a blank top left corner.
-        theGrid[rowNum][colNum] = new DisplayDetail("");
+    // A blank top left corner, the Teams, then the Points and Goals headings
+    private static DisplayDetail[] getGridHeadings(Game[] theGames, Team[] theTeams) {
 
-        // Do the first row of Teams (headings);
+        DisplayDetail[] headings = new DisplayDetail[theTeams.length + 3];
+        headings[0] = new DisplayDetail("");
         for (int i = 0; i < theTeams.length; i++) {
-
-            theTeams[i].setId(i);   // set the Id to the index
-            // ternary expression below determines whether to add the full orginal Team class or a simple 
-            // DisplayString class
-            theGrid[rowNum][colNum + 1] = new DisplayDetail(theTeams[i].getTeamName());
-            //theGrid[rowNum][colNum + 1] = theTeams[i];
-            colNum++;
+            headings[i + 1] = new DisplayDetail(theTeams[i].getTeamName());
         }
-
-        // Add Points and Games columns to the first row (headings)
-        theGrid[rowNum][colNum + 1] = new DisplayDetail("League Pts");
+        headings[theTeams.length + 1] = new DisplayDetail("League Pts");
         // Getting "Goals" vs "Baskets" from Game (same on all IGames - another approach?)
-        theGrid[rowNum][colNum + 2] = new DisplayDetail(theGames[0].getScoreDescriptionString());
+        headings[theTeams.length + 2] = new DisplayDetail(theGames[0].getScoreDescriptionString());
+        return headings;
+    }
 
-        // Add each row of Games for each home team (note all Team IDs will be set by previous for loop
-        // Also note rowNum = i + 1; therefore starting on second row.
-        for (int i = 0; i < theTeams.length; i++) {
-            rowNum = i + 1;
-            
-            // Add the home Team to the first column of the current row
-            colNum = 0;
-            Team currHomeTeam = theTeams[i];
-            //theGrid[rowNum][colNum] = currHomeTeam;
-            
-            theGrid[rowNum][colNum] = new DisplayDetail(currHomeTeam.getTeamName());
-            //theGrid[rowNum][colNum] = theTeams[i];
-
-
-            // Inner loop through all away teams on current row to add Games
-            for (Team currAwayTeam : theTeams) {
-                colNum++;   // Could also use traditional for loop here
-                if (currHomeTeam != currAwayTeam) {
-                    for (Game theGame : theGames) {
-                        if (theGame.getHomeTeam().getTeamName().equals(currHomeTeam.getTeamName()) 
-                                && theGame.getAwayTeam().getTeamName().equals(currAwayTeam.getTeamName())) {
-                            //theGrid[rowNum][colNum] = theGame;
-                            //theGrid[rowNum][colNum] = useOriginalClass?theGame:new DisplayString(theGame.getScore());
-                            //theGrid[rowNum][colNum] = theGame;
-                            //System.out.println("Setting the score!");
-                            theGrid[rowNum][colNum] = new DisplayDetail(theGame.getScore());
-                            break;
-                        }
-                    }
-                } else {
-                    theGrid[rowNum][colNum] = new DisplayDetail(" X ");    // Mark with X as team doesn't play itself
-                }
-            }
+    // The home team, its score against each away team, then its points and
+    // goals, which are totalled from the games rather than kept on the Team
+    private static DisplayDetail[] getGridRow(Game[][] fixtures, Standings standings, Team[] theTeams, int homeIndex) {
+
+        Team currHomeTeam = theTeams[homeIndex];
+        DisplayDetail[] theRow = new DisplayDetail[theTeams.length + 3];
+        theRow[0] = new DisplayDetail(currHomeTeam.getTeamName());
 
-            // Add last two columns to current row (team points and goals)
-            theGrid[rowNum][colNum + 1] = new DisplayDetail(Integer.toString(currHomeTeam.getPointsTotal()));
-            theGrid[rowNum][colNum + 2] = new DisplayDetail(Integer.toString(currHomeTeam.getGoalsTotal()));
+        for (int awayIndex = 0; awayIndex < theTeams.length; awayIndex++) {
+            if (awayIndex == homeIndex) {
+                theRow[awayIndex + 1] = new DisplayDetail(" X ");    // Mark with X as team doesn't play itself
+            } else if (fixtures[homeIndex][awayIndex] != null) {
+                theRow[awayIndex + 1] = new DisplayDetail(fixtures[homeIndex][awayIndex].getScore());
+            }
         }
-        return theGrid;
+
+        theRow[theTeams.length + 1] = new DisplayDetail(Integer.toString(standings.getPoints(currHomeTeam)));
+        theRow[theTeams.length + 2] = new DisplayDetail(Integer.toString(standings.getGoalsFor(currHomeTeam)));
+        return theRow;
     }
     
 
 
         
     public static Team[] createTeams(String gameType, String teamNames, int teamSize) throws PlayerDatabaseException {
+        return createTeams(gameType, teamNames, teamSize, RandomSource.threadLocal());
+    }
+
+    public static Team[] createTeams(String gameType, String teamNames, int teamSize, RandomSource random) throws PlayerDatabaseException {
 
         PlayerDatabase playerDB = new PlayerDatabase(gameType);
 
@@ -160,7 +186,8 @@ public class Main {
         Team[] theTeams = new Team[teamNameTokens.countTokens()];
         for (int i = 0; i < theTeams.length; i++) {
   
-            theTeams[i] = Factory.createTeam(gameType, teamNameTokens.nextToken(), playerDB.getTeamPlayers(teamSize));
+            theTeams[i] = Factory.createTeam(gameType, teamNameTokens.nextToken(), playerDB.getTeamPlayers(teamSize, random));
+            theTeams[i].setId(i);   // set the Id to the index, before any tournament shares the team
         }
 
         return theTeams;
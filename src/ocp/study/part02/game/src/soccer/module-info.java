@@ -7,6 +7,7 @@ module soccer {
     requires gameapi;
     requires java.logging;
     exports soccer;
+    exports soccer.util;
     opens soccer to jackson.databind;
     
     provides gameapi.GameProvider with soccer.SoccerProvider;
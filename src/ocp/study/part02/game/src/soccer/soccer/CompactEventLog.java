@@ -0,0 +1,102 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package soccer;
+
+import gameapi.GameEvent;
+import gameapi.Player;
+import gameapi.Team;
+import java.util.Arrays;
+
+
+// The events of a played game packed one long per event, instead of keeping a
+// SoccerEvent object (with its Team and Player references) for each of them.
+// GameEvent objects are only created again when getEvents() asks for them.
+//
+// Bits of each long:
+//   0 - 7    event type (SoccerEventTable)
+//   8        team in possession, 0 for home team and 1 for away team
+//   9 - 24   index of the player in that team's player array
+//   25 - 40  minute of the event
+//   41 - 56  ball position
+class CompactEventLog {
+
+    private static final int TEAM_SHIFT = 8;
+    private static final int PLAYER_SHIFT = 9;
+    private static final int MINUTE_SHIFT = 25;
+    private static final int BALL_POS_SHIFT = 41;
+
+    private long[] packedEvents;
+    private int size;
+
+    CompactEventLog(int initialCapacity) {
+        packedEvents = new long[initialCapacity];
+    }
+
+    void add(GameEvent theEvent, Team homeTeam, Team awayTeam) {
+        if (!(theEvent instanceof SoccerEvent)) {
+            throw new IllegalArgumentException(theEvent + " is not a soccer event");
+        }
+        int teamIndex = theEvent.getTheTeam() == homeTeam ? 0 : 1;
+        int playerIndex = indexOf(teamIndex == 0 ? homeTeam : awayTeam, theEvent.getThePlayer());
+
+        long packed = ((SoccerEvent) theEvent).getEventType()
+                | (long) teamIndex << TEAM_SHIFT
+                | (long) playerIndex << PLAYER_SHIFT
+                | ((long) theEvent.getTheTime() & 0xFFFF) << MINUTE_SHIFT
+                | ((long) theEvent.getBallPos() & 0xFFFF) << BALL_POS_SHIFT;
+
+        if (size == packedEvents.length) {
+            packedEvents = Arrays.copyOf(packedEvents, size * 2 + 1);
+        }
+        packedEvents[size++] = packed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getEventType(int i) {
+        return (int) (packedEvents[i] & 0xFF);
+    }
+
+    boolean isHomeTeam(int i) {
+        return (packedEvents[i] >>> TEAM_SHIFT & 1) == 0;
+    }
+
+    int getPlayerIndex(int i) {
+        return (int) (packedEvents[i] >>> PLAYER_SHIFT & 0xFFFF);
+    }
+
+    int getMinute(int i) {
+        return (int) (packedEvents[i] >>> MINUTE_SHIFT & 0xFFFF);
+    }
+
+    int getBallPos(int i) {
+        return (short) (packedEvents[i] >>> BALL_POS_SHIFT & 0xFFFF);
+    }
+
+    // New event objects every call, so nothing extra is held on to by the game
+    GameEvent[] toEvents(Team homeTeam, Team awayTeam) {
+        GameEvent[] theEvents = new GameEvent[size];
+        for (int i = 0; i < size; i++) {
+            SoccerEvent theEvent = SoccerEventTable.newEvent(getEventType(i));
+            Team theTeam = isHomeTeam(i) ? homeTeam : awayTeam;
+            theEvent.setTheTeam(theTeam);
+            theEvent.setThePlayer(theTeam.getPlayer(getPlayerIndex(i)));
+            theEvent.setTheTime(getMinute(i));
+            theEvent.ballPos = getBallPos(i);    // as played, setBallPos() would adjust it
+            theEvents[i] = theEvent;
+        }
+        return theEvents;
+    }
+
+    private static int indexOf(Team theTeam, Player thePlayer) {
+        for (int i = 0; i < theTeam.getPlayerCount(); i++) {
+            if (theTeam.getPlayer(i) == thePlayer) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(thePlayer.getPlayerName() + " is not on the team");
+    }
+
+}
@@ -12,6 +12,11 @@ public class Dribble extends SoccerEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.DRIBBLE;
+    }
+
     public String toString() {
         return "Dribble ";
     }
@@ -12,6 +12,11 @@ public class FreeKickToAttackingSide extends SoccerEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.FREE_KICK_TO_ATTACKING_SIDE;
+    }
+
     public String toString() {
         return "Fouled. Free kick to attacking side.";
     }
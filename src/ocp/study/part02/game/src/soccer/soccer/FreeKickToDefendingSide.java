@@ -12,6 +12,11 @@ public class FreeKickToDefendingSide extends SoccerEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.FREE_KICK_TO_DEFENDING_SIDE;
+    }
+
     public String toString() {
         return "Fouled. Free kick to defending side.";
     }
@@ -12,6 +12,11 @@ public class GainPossession extends SoccerEvent {
         
     }
     
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.GAIN_POSSESSION;
+    }
+
     public String toString() {
         return "WON possession ";
     }
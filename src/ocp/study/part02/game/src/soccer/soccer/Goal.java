@@ -7,6 +7,11 @@ public class Goal extends SoccerEvent  {
     public Goal(){
        
     }
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.GOAL;
+    }
+
     public String toString() {
         return "GOAL! ";
     }
@@ -9,6 +9,11 @@ public class Kickoff extends SoccerEvent  {  // Really it's a special Pass
 
     }
 
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.KICKOFF;
+    }
+
     public String toString() {
         return "Kickoff "; // This will cause a problem with the first Kickoff
     }
@@ -9,6 +9,11 @@ public class Kickout extends SoccerEvent  { // Special type of Pass
      
     }
     
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.KICKOUT;
+    }
+
     public String toString() {
         return "Saved. Kickout ";
     }
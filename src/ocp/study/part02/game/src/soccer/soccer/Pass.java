@@ -11,6 +11,11 @@ public class Pass extends SoccerEvent  {
         
     }
     
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.PASS;
+    }
+
     public String toString() {
         return "Pass attempt ";
     }
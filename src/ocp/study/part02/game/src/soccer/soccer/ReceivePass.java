@@ -10,6 +10,11 @@ public class ReceivePass extends SoccerEvent  {
         super();
         
     }    
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.RECEIVE_PASS;
+    }
+
     public String toString() {
         return "Receive pass ";
     }
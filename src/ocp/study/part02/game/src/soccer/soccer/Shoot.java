@@ -14,11 +14,17 @@ public class Shoot extends SoccerEvent {
 		// ternary operator below for ballPos
 		//int odds = (int)(Math.pow((isHomeTeam?ballPos:reverseBallPos()),2)/200);
 		// Below indicate 100% chance if ball at 100 yards!
-		int odds = (int)(Math.pow(ballPos,2)/100);
+		int odds = SoccerEventTable.getShootOdds(ballPos);
 		//System.out.println(ballPos + " : " + odds);
 		//System.err.println(this + " : " + ballPos + " : " + odds);
 		return odds;
     }    
+
+    @Override
+    public int getEventType() {
+        return SoccerEventTable.SHOOT;
+    }
+
     public String toString() {
         return "SHOOTS ";
     }
@@ -7,24 +7,41 @@ import gameapi.Game;
 import gameapi.GameEvent;
 import gameapi.GameResult;
 import gameapi.Player;
+import gameapi.RandomSource;
 import gameapi.Team;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import soccer.util.GameSettings;
+import java.util.logging.Level;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 
 public class Soccer implements Game {
     
     private static final Logger LOGGER = Logger.getLogger("");
+
+    // Given with each record, as working out the caller means walking the stack
+    private static final String LOG_SOURCE = "soccer.Soccer";
     
 
 
     private Team homeTeam;
     private Team awayTeam;
     private GameEvent[] events;
+    private transient CompactEventLog eventLog;
+    private transient RandomSource random = RandomSource.threadLocal();
+
+    // Minutes played, and whether to keep the played events as a packed
+    // CompactEventLog rather than event objects
+    private transient int gameLength = GameSettings.GAME_LENGTH;
+    private transient boolean compactEventLog;
+
+    // Worked out as the game is played, so the events needn't be scanned again
+    private transient GameResult result;
+    private transient volatile int homeTeamScore;
+    private transient volatile int awayTeamScore;
     
 
     private LocalDateTime theDateTime;
@@ -38,9 +55,20 @@ public class Soccer implements Game {
     public Soccer() {};
 
     public Soccer(Team homeTeam, Team awayTeam, LocalDateTime plusDays) {
+        this(homeTeam, awayTeam, plusDays, GameSettings.GAME_LENGTH, false);
+    }
+
+    /**
+     * @param gameLength the number of minutes to play
+     * @param compactEventLog true to keep the events as a CompactEventLog once
+     * the game is played, which getEvents() turns back into event objects
+     */
+    public Soccer(Team homeTeam, Team awayTeam, LocalDateTime plusDays, int gameLength, boolean compactEventLog) {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.theDateTime = plusDays;
+        this.gameLength = gameLength;
+        this.compactEventLog = compactEventLog;
     }
     
     // So Game as a service is possible
@@ -48,6 +76,7 @@ public class Soccer implements Game {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.theDateTime = plusDays;
+        this.result = null;
     }
 
 
@@ -58,26 +87,29 @@ public class Soccer implements Game {
 	// Choose either homeTeam or awayTeam to have possession
 	// Choose a player to kickoff randomly from the team that has possession
 
-        ArrayList<GameEvent> eventList = new ArrayList<>();
+        ArrayList<GameEvent> eventList = new ArrayList<>(gameLength + 1);
+        this.result = null;
+        this.homeTeamScore = 0;
+        this.awayTeamScore = 0;
+        CompactEventLog compactLog = compactEventLog?
+                new CompactEventLog(gameLength + 1): null;
         Team currTeam;
         Player currPlayer;
         GameEvent currEvent = new Kickoff();
 	GameEvent nextEvent;
         currEvent.setBallPos(50); // Maybe this should happen automatically as part of Kickoff?
-        currEvent.setTheTeam(Math.random() > 0.5?homeTeam: awayTeam);
+        currEvent.setTheTeam(random.nextDouble() > 0.5?homeTeam: awayTeam);
         currEvent.setThePlayer(currEvent.getTheTeam().
-                getPlayerArray()[(int) (Math.random() * this.homeTeam.getPlayerArray().length)]);
+                getPlayer(random.nextInt(this.homeTeam.getPlayerCount())));
         currEvent.setTheTime(0);
         
         
-        eventList.add(currEvent);
-        LOGGER.fine("****** New game ****** ");
-        LOGGER.fine("" + currEvent.toString());
+        addEvent(eventList, compactLog, currEvent);
 
 	// Loop until game is over
 	// if statement ensures that the increase of the time (i) increases by random jumps for each event.
 
-        for (int i = 1; i <=GameSettings.GAME_LENGTH; i++){
+        for (int i = 1; i <=gameLength; i++){
             
             //if (Math.random() > GameSettings.GAME_EVENT_FREQUENCY){
             if (true) {
@@ -89,32 +121,24 @@ public class Soccer implements Game {
                 int currBallPos = currEvent.getBallPos(); // Need to get before setting up new Event
                 
 
-		if ((Math.random()* 100 < currEvent.getPercentChanceSuccess())){
+		if ((random.nextDouble()* 100 < currEvent.getPercentChanceSuccess())){
 		    ///System.err.println("Succeeded " + currEvent);
 		    // ** This will replace currEvent with next event **//
 
-		    GameEvent tempEvent = currTeam.getNextPlayAttempt(currEvent); 
-
-		    try {
-			GameEvent[] tempEvents = currEvent.getNextEvents();
-			boolean isFound = false;
-
-			    for (GameEvent thisEvent: tempEvents ) {
-				    if ( thisEvent.getClass().equals( tempEvent.getClass())) { 
-				    // We're good
-				    isFound = true;
-				    }
-			    }
-
-			    if (isFound) {
-				currEvent = tempEvent;
-			    } else throw new Exception("Not a valid event type.");
-			} catch (Exception e) {
-			    System.out.println(tempEvent + " not a valid event type for "+ currEvent);
-			}
+		    GameEvent tempEvent = currTeam.getNextPlayAttempt(currEvent, random); 
+
+		    if (SoccerEventTable.isNextEvent(currEvent, tempEvent)) {
+			currEvent = tempEvent;
+		    } else {
+			// The event tables only offer valid events, so only another Team implementation gets here
+			LOGGER.logp(Level.WARNING, LOG_SOURCE, "playGame", "{0} not a valid event type for {1}",
+				new Object[] { tempEvent, currEvent });
+		    }
 		} else {
 		    //System.err.println("Failed" + currEvent);
-		    currEvent = currEvent.getNextFailEvent()[0];
+		    currEvent = currEvent instanceof SoccerEvent?
+			    SoccerEventTable.newNextFailEvent((SoccerEvent) currEvent):
+			    currEvent.getNextFailEvent()[0];
 		}		
 		    //currEvent = currTeam.getNextPlayAttempt(currEvent); 
 
@@ -137,33 +161,86 @@ public class Soccer implements Game {
                
 		// Below code sets things up so not same player twice 
 		// It actually doesn't need to run when there's a change in team (in that case currPlayer won't be removed
-                ArrayList <Player> currPlayerList = new ArrayList<>(Arrays.asList(currEvent.getTheTeam().getPlayerArray()));
-                if (currPlayerList.size() > 1 ) currPlayerList.remove(currPlayer); // Needs a check here otherwise error
                 currEvent.setThePlayer(
                     currEvent.changePlayer()?
-                    currPlayerList.get((int)(Math.random() * currPlayerList.size())):
+                    getOtherPlayer(currEvent.getTheTeam(), currPlayer):
                     currPlayer
                 );
 
                 currEvent.setTheTime(i);
 		// Note that currTeam, currPlayer, currBallPos are all now for the previous event
 		// but they will be updated at the start of the loop
-                eventList.add(currEvent); 
-                
-                LOGGER.fine(currEvent.getThePlayer().getPlayerName() + " of the " + 
-                        currEvent.getTheTeam().getTeamName() + " team -- " + currEvent.toString());
+                addEvent(eventList, compactLog, currEvent); 
                 
                 //System.out.println(i);
             }
+        }
 
-	    // Finally copy the list of created Events
-            this.events = new GameEvent[eventList.size()];
-            eventList.toArray(events);
- 
+	// Finally copy the list of created Events
+        if (compactLog != null) {
+            this.eventLog = compactLog;
+            this.events = null;
+        } else {
+            this.eventLog = null;
+            this.events = eventList.toArray(new GameEvent[eventList.size()]);
+        }
+        this.result = new SoccerResult(homeTeam, awayTeam, homeTeamScore, awayTeamScore);
+
+        // One record per game rather than per event, and its commentary is
+        // only put together if and when the record is written
+        if (LOGGER.isLoggable(Level.FINE)) {
+            GameEvent[] playedEvents = this.events;
+            Supplier<GameEvent[]> theEvents = compactLog != null ?
+                    () -> compactLog.toEvents(homeTeam, awayTeam): () -> playedEvents;
+            LOGGER.logp(Level.FINE, LOG_SOURCE, "playGame", "****** New game ******{0}", new Commentary(theEvents));
         }
     }
+
+    private void addEvent(ArrayList<GameEvent> eventList, CompactEventLog compactLog, GameEvent currEvent) {
+        if (compactLog != null) {
+            compactLog.add(currEvent, homeTeam, awayTeam);
+        } else {
+            eventList.add(currEvent);
+        }
+
+        if (currEvent instanceof Goal) {
+            if (currEvent.getTheTeam() == homeTeam) {
+                homeTeamScore++;
+            } else {
+                awayTeamScore++;
+            }
+        }
+    }
+
+    // Same as copying the player array, removing currPlayer (if on this team)
+    // and picking from what's left, but without copying anything.
+    private Player getOtherPlayer(Team theTeam, Player currPlayer) {
+        int numPlayers = theTeam.getPlayerCount();
+        int currIndex = -1;
+        if (numPlayers > 1) {
+            for (int i = 0; i < numPlayers; i++) {
+                if (theTeam.getPlayer(i) == currPlayer) {
+                    currIndex = i;
+                    break;
+                }
+            }
+        }
+        if (currIndex < 0) {
+            return theTeam.getPlayer(random.nextInt(numPlayers));
+        }
+        int playerIndex = random.nextInt(numPlayers - 1);
+        return theTeam.getPlayer(playerIndex < currIndex ? playerIndex : playerIndex + 1);
+    }
     
 
+    /**
+     * @param random the source of random numbers used by playGame()
+     */
+    @Override
+    public void setRandom(RandomSource random) {
+        this.random = random;
+    }
+
     public String getDescription(boolean showEvents) {
 
         // Announce the game
@@ -241,6 +318,7 @@ public class Soccer implements Game {
    
     public void setHomeTeam(Team homeTeam) {
         this.homeTeam = homeTeam;
+        this.result = null;
     }
 
     /**
@@ -257,6 +335,7 @@ public class Soccer implements Game {
 
     public void setAwayTeam(Team awayTeam) {
         this.awayTeam = awayTeam;
+        this.result = null;
     }
 
     /**
@@ -264,15 +343,28 @@ public class Soccer implements Game {
      */
 
     public GameEvent[] getEvents() {
+        if (eventLog != null) {
+            return eventLog.toEvents(homeTeam, awayTeam);
+        }
         return events;
     }
 
+    @Override
+    public int getEventCount() {
+        if (eventLog != null) {
+            return eventLog.size();
+        }
+        return events == null ? 0 : events.length;    // not played yet
+    }
+
     /**
      * @param events the events to set
      */
 
     public void setEvents(GameEvent[] events) {
         this.events = events;
+        this.result = null;
+        this.eventLog = null;
     }
 
     /**
@@ -312,8 +404,27 @@ public class Soccer implements Game {
     
     // TODO. Perhaps better have the code here, not in constructor of SoccerResult
 
+    // Set at the end of playGame(), otherwise worked out from the events
+    // (e.g. for a game read back from JSON) the first time it's needed
     public GameResult getGameResult(){
-        return new SoccerResult(this);  // ???
+        if (result == null) {
+            result = new SoccerResult(this);
+        }
+        return result;
+    }
+
+    /**
+     * @return the home team's score so far, while the game is being played
+     */
+    public int getHomeTeamRunningScore() {
+        return homeTeamScore;
+    }
+
+    /**
+     * @return the away team's score so far, while the game is being played
+     */
+    public int getAwayTeamRunningScore() {
+        return awayTeamScore;
     }
     
         // Remainder is displayDetailStuff
@@ -372,6 +483,28 @@ public class Soccer implements Game {
     public String getScoreDescriptionString() {
         return "Total Goals";
     }
-    
-      
+
+
+    // Every event in a played game, a line each, as the toString() of a log parameter
+    private static class Commentary {
+
+        private final Supplier<GameEvent[]> theEvents;
+
+        Commentary(Supplier<GameEvent[]> theEvents) {
+            this.theEvents = theEvents;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder returnString = new StringBuilder();
+            for (GameEvent currEvent : theEvents.get()) {
+                returnString.append(System.lineSeparator())
+                        .append(currEvent.getThePlayer().getPlayerName()).append(" of the ")
+                        .append(currEvent.getTheTeam().getTeamName()).append(" team -- ").append(currEvent);
+            }
+            return returnString.toString();
+        }
+
+    }
+
 }
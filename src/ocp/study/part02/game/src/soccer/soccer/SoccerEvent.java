@@ -26,6 +26,10 @@ public abstract class SoccerEvent implements GameEvent{
         
     }
 
+    // Index of this type of event in SoccerEventTable
+    @Override
+    public abstract int getEventType();
+
     @Override
     public int getPercentChanceSuccess() {
 		int odds = 92;
@@ -0,0 +1,81 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package soccer;
+
+import gameapi.EventTable;
+import gameapi.GameEvent;
+import gameapi.RandomSource;
+
+
+// The SoccerEvent subclasses, numbered by getEventType(), and the EventTable
+// playGame() uses to check and pick them.
+final class SoccerEventTable {
+
+    static final int KICKOFF = 0;
+    static final int RECEIVE_PASS = 1;
+    static final int PASS = 2;
+    static final int DRIBBLE = 3;
+    static final int SHOOT = 4;
+    static final int GOAL = 5;
+    static final int KICKOUT = 6;
+    static final int GAIN_POSSESSION = 7;
+    static final int FREE_KICK_TO_ATTACKING_SIDE = 8;
+    static final int FREE_KICK_TO_DEFENDING_SIDE = 9;
+
+    static final int NUM_EVENT_TYPES = 10;
+
+    private static final EventTable<SoccerEvent> EVENTS = new EventTable<>(SoccerEvent.class, NUM_EVENT_TYPES, SoccerEventTable::newEvent);
+
+    // Shoot odds for every ball position on the pitch
+    private static final int[] SHOOT_ODDS = new int[soccer.util.GameSettings.PITCH_LENGTH + 1];
+
+    static {
+        for (int ballPos = 0; ballPos < SHOOT_ODDS.length; ballPos++) {
+            SHOOT_ODDS[ballPos] = calcShootOdds(ballPos);
+        }
+    }
+
+    private SoccerEventTable() {}
+
+    static SoccerEvent newEvent(int type) {
+        switch (type) {
+            case KICKOFF: return new Kickoff();
+            case RECEIVE_PASS: return new ReceivePass();
+            case PASS: return new Pass();
+            case DRIBBLE: return new Dribble();
+            case SHOOT: return new Shoot();
+            case GOAL: return new Goal();
+            case KICKOUT: return new Kickout();
+            case GAIN_POSSESSION: return new GainPossession();
+            case FREE_KICK_TO_ATTACKING_SIDE: return new FreeKickToAttackingSide();
+            case FREE_KICK_TO_DEFENDING_SIDE: return new FreeKickToDefendingSide();
+            default: throw new IllegalArgumentException("Unknown event type " + type);
+        }
+    }
+
+    // Is nextEvent one of currEvent's getNextEvents()?
+    static boolean isNextEvent(GameEvent currEvent, GameEvent nextEvent) {
+        return EVENTS.isNextEvent(currEvent, nextEvent);
+    }
+
+    static SoccerEvent newNextEvent(SoccerEvent currEvent, RandomSource random) {
+        return EVENTS.newNextEvent(currEvent, random);
+    }
+
+    static SoccerEvent newNextFailEvent(SoccerEvent currEvent) {
+        return EVENTS.newNextFailEvent(currEvent);
+    }
+
+    static int getShootOdds(int ballPos) {
+        if (ballPos >= 0 && ballPos < SHOOT_ODDS.length) {
+            return SHOOT_ODDS[ballPos];
+        }
+        return calcShootOdds(ballPos);
+    }
+
+    // Below indicate 100% chance if ball at 100 yards!
+    private static int calcShootOdds(int ballPos) {
+        return (int)(Math.pow(ballPos,2)/100);
+    }
+
+}
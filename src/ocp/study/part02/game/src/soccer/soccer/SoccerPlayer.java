@@ -15,11 +15,6 @@ public class SoccerPlayer implements Player {
         return "Player";
     }
     
-    @Override
-    public void incGoalsScored() {
-        this.goalsScored++;
-    }
-    
     public SoccerPlayer(String playerName) {
         this.playerName = playerName;
     }
@@ -34,42 +29,17 @@ public class SoccerPlayer implements Player {
         return playerName;
     }
 
-    /**
-     * @param playerName the playerName to set
-     */
-    @Override
-    public void setPlayerName(String playerName) {
-        this.playerName = playerName;
-    }
-
     /**
      * @return the goalsScored
      */
+    @Deprecated
     @Override
     public int getGoalsScored() {
         return goalsScored;
     }
 
-    /**
-     * @param goalsScored the goalsScored to set
-     */
-    @Override
-    public void setGoalsScored(int goalsScored) {
-        this.goalsScored = goalsScored;
-    }
     
 
-    @Override
-    public int compareTo(Player thePlayer){
-
-        if (this.getGoalsScored() < thePlayer.getGoalsScored()){
-            return 1;
-        }
-        else {
-            return -1;
-
-        }
-    }
 
 
     
@@ -3,10 +3,12 @@
 package soccer;
 
 import gameapi.Game;
+import gameapi.GameEvent;
 import gameapi.GameProvider;
 import gameapi.Player;
 import gameapi.Team;
 import java.time.LocalDateTime;
+import soccer.util.GameSettings;
 
 
 public class SoccerProvider implements GameProvider {
@@ -17,6 +19,11 @@ public class SoccerProvider implements GameProvider {
         return new Soccer(homeTeam, awayTeam, plusDays);
     }
 
+    @Override
+    public Game getGame(Team homeTeam, Team awayTeam, LocalDateTime plusDays, boolean compactEventLog) {
+        return new Soccer(homeTeam, awayTeam, plusDays, GameSettings.GAME_LENGTH, compactEventLog);
+    }
+
     @Override
     public Player getPlayer(String playerName) {
         return new SoccerPlayer(playerName);
@@ -27,6 +34,13 @@ public class SoccerProvider implements GameProvider {
         return new SoccerTeam(teamName, players);
     }
 
+    @Override
+    public GameEvent getEvent(int eventType, int ballPos) {
+        SoccerEvent theEvent = SoccerEventTable.newEvent(eventType);
+        theEvent.ballPos = ballPos;    // as played, setBallPos() would adjust it
+        return theEvent;
+    }
+
     @Override
     public String getType() {
         return "soccer";
@@ -53,6 +53,19 @@ public class SoccerResult implements GameResult {
         this.homeTeam = currGame.getHomeTeam();  // This might change in later version
         this.awayTeam = currGame.getAwayTeam();
         setGoals(currGame);       
+        setWinner();
+    }
+
+    // For when the scores were already totalled while the game was played
+    public SoccerResult(Team homeTeam, Team awayTeam, int homeTeamGoals, int awayTeamGoals) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeTeamGoals = homeTeamGoals;
+        this.awayTeamGoals = awayTeamGoals;
+        setWinner();
+    }
+
+    private void setWinner() {
          if (homeTeamGoals == awayTeamGoals){
             this.isDrawn = true;       
         } else if (homeTeamGoals > awayTeamGoals) {
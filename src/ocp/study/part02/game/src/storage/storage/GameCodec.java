@@ -0,0 +1,180 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package storage;
+
+import gameapi.Game;
+import gameapi.GameEvent;
+import gameapi.GameProvider;
+import gameapi.Player;
+import gameapi.Team;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+
+// The team dictionary and game records shared by GameSnapshot and
+// SeasonArchive. See GameSnapshot for the layout.
+//
+// Teams are indexed by name, and an event's team and player are found by
+// name in the game's teams, as games read back from JSON have their own
+// copy of each team and player.
+final class GameCodec {
+
+    // id, home team, away team, epoch second, nano, detail available, event count
+    static final int GAME_HEADER_BYTES = 4 + 4 + 4 + 8 + 4 + 1 + 4;
+    static final int EVENT_BYTES = 8;
+
+    private GameCodec() {}
+
+    // Numbers the teams in the order they first appear in the games, keeping
+    // the first copy of each team
+    static Team[] indexTeams(Game[] allGames, Map<String, Integer> teamIndex) {
+        List<Team> theTeams = new ArrayList<>();
+        for (Game currGame : allGames) {
+            for (Team currTeam : new Team[] { currGame.getHomeTeam(), currGame.getAwayTeam() }) {
+                if (teamIndex.putIfAbsent(currTeam.getTeamName(), theTeams.size()) == null) {
+                    theTeams.add(currTeam);
+                }
+            }
+        }
+        return theTeams.toArray(new Team[0]);
+    }
+
+    static void writeTeams(DataOutput out, Team[] theTeams) throws IOException {
+        out.writeInt(theTeams.length);
+        for (Team currTeam : theTeams) {
+            out.writeUTF(currTeam.getTeamName());
+            Player[] thePlayers = currTeam.getPlayerArray();
+            out.writeShort(thePlayers.length);
+            for (Player currPlayer : thePlayers) {
+                out.writeUTF(currPlayer.getPlayerName());
+            }
+        }
+    }
+
+    static Team[] readTeams(DataInput in, GameProvider theProvider) throws IOException {
+        Team[] theTeams = new Team[in.readInt()];
+        for (int i = 0; i < theTeams.length; i++) {
+            String teamName = in.readUTF();
+            Player[] thePlayers = new Player[in.readUnsignedShort()];
+            for (int j = 0; j < thePlayers.length; j++) {
+                thePlayers[j] = theProvider.getPlayer(in.readUTF());
+            }
+            theTeams[i] = theProvider.getTeam(teamName, thePlayers);
+        }
+        return theTeams;
+    }
+
+    /**
+     * @return the number of bytes writeGame() writes for the game
+     */
+    static int getGameBytes(Game theGame) {
+        return GAME_HEADER_BYTES + getEvents(theGame).length * EVENT_BYTES;
+    }
+
+    static void writeGame(DataOutput out, Game theGame, Map<String, Integer> teamIndex) throws IOException {
+
+        Team homeTeam = theGame.getHomeTeam();
+        Team awayTeam = theGame.getAwayTeam();
+        LocalDateTime theDateTime = theGame.getTheDateTime();
+        GameEvent[] theEvents = getEvents(theGame);
+
+        out.writeInt(theGame.getID());
+        out.writeInt(getTeamIndex(teamIndex, homeTeam));
+        out.writeInt(getTeamIndex(teamIndex, awayTeam));
+        out.writeLong(theDateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(theDateTime.getNano());
+        out.writeBoolean(theGame.isDetailAvailable());
+
+        out.writeInt(theEvents.length);
+        for (GameEvent currEvent : theEvents) {
+            boolean isHomeTeam = isTeam(currEvent.getTheTeam(), homeTeam);
+            if (!isHomeTeam && !isTeam(currEvent.getTheTeam(), awayTeam)) {
+                throw new IOException("Event in game " + theGame.getID() + " is for "
+                        + currEvent.getTheTeam().getTeamName() + ", who aren't playing");
+            }
+            Team theTeam = isHomeTeam ? homeTeam : awayTeam;
+            out.writeByte(currEvent.getEventType());
+            out.writeByte(isHomeTeam ? 0 : 1);
+            out.writeShort(getPlayerIndex(theGame, theTeam, currEvent.getThePlayer()));
+            out.writeShort((int) currEvent.getTheTime());
+            out.writeShort(currEvent.getBallPos());
+        }
+    }
+
+    static Game readGame(DataInput in, GameProvider theProvider, Team[] theTeams) throws IOException {
+
+        int id = in.readInt();
+        Team homeTeam = theTeams[in.readInt()];
+        Team awayTeam = theTeams[in.readInt()];
+        LocalDateTime theDateTime = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        boolean detailAvailable = in.readBoolean();
+
+        GameEvent[] theEvents = new GameEvent[in.readInt()];
+        for (int i = 0; i < theEvents.length; i++) {
+            int eventType = in.readUnsignedByte();
+            Team theTeam = in.readByte() == 0 ? homeTeam : awayTeam;
+            int playerIndex = in.readShort();
+            int theTime = in.readShort();
+            GameEvent theEvent = theProvider.getEvent(eventType, in.readShort());
+            theEvent.setTheTeam(theTeam);
+            if (playerIndex >= 0) {
+                theEvent.setThePlayer(theTeam.getPlayer(playerIndex));
+            }
+            theEvent.setTheTime(theTime);
+            theEvents[i] = theEvent;
+        }
+
+        Game theGame = theProvider.getGame(homeTeam, awayTeam, theDateTime);
+        theGame.setId(id);
+        theGame.setDetailAvailable(detailAvailable);
+        theGame.setEvents(theEvents);
+        return theGame;
+    }
+
+    static GameProvider getProvider(String gameType) throws IOException {
+        GameProvider theProvider = GameProvider.forType(gameType);
+        if (theProvider == null) {
+            throw new IOException("No game provider found for " + gameType);
+        }
+        return theProvider;
+    }
+
+    // Games that haven't been played yet have no events
+    private static GameEvent[] getEvents(Game theGame) {
+        GameEvent[] theEvents = theGame.getEvents();
+        return theEvents == null ? new GameEvent[0] : theEvents;
+    }
+
+    static int getTeamIndex(Map<String, Integer> teamIndex, Team theTeam) throws IOException {
+        Integer index = teamIndex.get(theTeam.getTeamName());
+        if (index == null) {
+            throw new IOException(theTeam.getTeamName() + " is not in the team dictionary");
+        }
+        return index;
+    }
+
+    private static boolean isTeam(Team theTeam, Team otherTeam) {
+        return theTeam != null && theTeam.getTeamName().equals(otherTeam.getTeamName());
+    }
+
+    // The player's index in the team, or -1 for an event without a player
+    private static int getPlayerIndex(Game theGame, Team theTeam, Player thePlayer) throws IOException {
+        if (thePlayer == null) {
+            return -1;
+        }
+        for (int i = 0; i < theTeam.getPlayerCount(); i++) {
+            if (theTeam.getPlayer(i).getPlayerName().equals(thePlayer.getPlayerName())) {
+                return i;
+            }
+        }
+        throw new IOException("Event in game " + theGame.getID() + " is for " + thePlayer.getPlayerName()
+                + ", who doesn't play for " + theTeam.getTeamName());
+    }
+
+}
@@ -0,0 +1,243 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package storage;
+
+import gameapi.Game;
+import gameapi.Team;
+import gameapi.TournamentJournal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+
+// An append only journal of finished games. Records are buffered and forced
+// to disk every syncEvery games (and on flush() and close()), so a crash
+// loses at most the games since the last sync, which are simply played again.
+//
+// Version 1 layout (all big endian):
+//   header      int MAGIC, short VERSION
+//   record      int payload length, int CRC32 of the payload, then the
+//               payload: UTF game type, UTF home team, UTF away team and the
+//               game record (see GameSnapshot) with home as team 0, away as 1
+//
+// Opening a journal reads back every record up to the first one that is
+// incomplete or fails its check, and cuts the file there. Only where each
+// game's record starts is kept in memory, and restore() reads the record
+// back from the file, so the journal's heap doesn't grow with the games.
+public class GameJournal implements TournamentJournal, Closeable {
+
+    static final int MAGIC = 0x4A524E4C;    // "JRNL"
+    static final short VERSION = 1;
+
+    private static final int HEADER_BYTES = 4 + 2;
+    private static final int RECORD_HEADER_BYTES = 4 + 4;
+
+    private final FileChannel channel;
+    private final int syncEvery;
+    private final Map<Integer, Long> recorded = new ConcurrentHashMap<>();    // game ID to record position
+    private long flushedSize;                                                 // where pending records will go
+
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private final DataOutputStream pendingOut = new DataOutputStream(pending);
+    private int pendingRecords;
+
+    public GameJournal(String dirName, String filename) throws IOException {
+        this(dirName, filename, 32);
+    }
+
+    public GameJournal(String dirName, String filename, int syncEvery) throws IOException {
+        this.syncEvery = syncEvery;
+        channel = FileChannel.open(new File(dirName, filename).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            readRecords();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of games restored from the file or recorded since
+     */
+    public int getGameCount() {
+        return recorded.size();
+    }
+
+    @Override
+    public boolean restore(Game theGame) {
+        Long recordPos = recorded.get(theGame.getID());
+        if (recordPos == null) {
+            return false;
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(readPayload(recordPos)));
+            String gameType = in.readUTF();
+            Team homeTeam = theGame.getHomeTeam();
+            Team awayTeam = theGame.getAwayTeam();
+            if (!gameType.equalsIgnoreCase(theGame.getDetailType())
+                    || !in.readUTF().equals(homeTeam.getTeamName())
+                    || !in.readUTF().equals(awayTeam.getTeamName())) {
+                return false;    // from a different tournament, so play it
+            }
+
+            Game recordedGame = GameCodec.readGame(in, GameCodec.getProvider(gameType), new Team[] { homeTeam, awayTeam });
+            theGame.setEvents(recordedGame.getEvents());
+            return true;
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    @Override
+    public synchronized void record(Game theGame) {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream(64 + GameCodec.getGameBytes(theGame));
+            DataOutputStream out = new DataOutputStream(payload);
+            Map<String, Integer> teamIndex = new HashMap<>();
+            teamIndex.put(theGame.getHomeTeam().getTeamName(), 0);
+            teamIndex.put(theGame.getAwayTeam().getTeamName(), 1);
+
+            out.writeUTF(theGame.getDetailType());
+            out.writeUTF(theGame.getHomeTeam().getTeamName());
+            out.writeUTF(theGame.getAwayTeam().getTeamName());
+            GameCodec.writeGame(out, theGame, teamIndex);
+            byte[] bytes = payload.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            long recordPos = flushedSize + pending.size();
+            pendingOut.writeInt(bytes.length);
+            pendingOut.writeInt((int) crc.getValue());
+            pendingOut.write(bytes);
+            recorded.put(theGame.getID(), recordPos);
+
+            if (++pendingRecords >= syncEvery) {
+                flush();
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    // Writes out the buffered records and forces them to disk
+    public synchronized void flush() throws IOException {
+        if (pendingRecords == 0) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(pending.toByteArray());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes, flushedSize + bytes.position());
+        }
+        channel.force(false);
+        flushedSize += bytes.capacity();
+        pending.reset();
+        pendingRecords = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void readRecords() throws IOException {
+
+        if (channel.size() < HEADER_BYTES) {
+            // New, or the header never made it to disk
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putShort(VERSION);
+            header.flip();
+            channel.truncate(0);
+            channel.write(header, 0);
+            channel.force(true);
+            flushedSize = HEADER_BYTES;
+            return;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a game journal");
+        }
+        short version = header.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Game journal version " + version + ", only version " + VERSION + " can be read");
+        }
+
+        long pos = HEADER_BYTES;
+        long size = channel.size();
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        while (pos + RECORD_HEADER_BYTES <= size) {
+            recordHeader.clear();
+            readFully(recordHeader, pos);
+            int length = recordHeader.getInt(0);
+            if (length < 0 || pos + RECORD_HEADER_BYTES + length > size) {
+                break;    // torn write
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, pos + RECORD_HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != recordHeader.getInt(4)) {
+                break;
+            }
+            recorded.put(readGameId(payload.array()), pos);
+            pos += RECORD_HEADER_BYTES + length;
+        }
+        if (pos < size) {
+            channel.truncate(pos);
+            channel.force(true);
+        }
+        flushedSize = pos;
+    }
+
+    // Records still waiting to be flushed are written out first, so every
+    // record can be read back from the file
+    private byte[] readPayload(long recordPos) throws IOException {
+        synchronized (this) {
+            if (recordPos >= flushedSize) {
+                flush();
+            }
+        }
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(recordHeader, recordPos);
+        ByteBuffer payload = ByteBuffer.allocate(recordHeader.getInt(0));
+        readFully(payload, recordPos + RECORD_HEADER_BYTES);
+        return payload.array();
+    }
+
+    // The ID is the first field of the game record, after the three names
+    private static int readGameId(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        in.readUTF();
+        in.readUTF();
+        in.readUTF();
+        return in.readInt();
+    }
+
+    private void readFully(ByteBuffer buffer, long pos) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, pos + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+        }
+    }
+
+}
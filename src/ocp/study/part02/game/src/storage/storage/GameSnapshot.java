@@ -0,0 +1,94 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package storage;
+
+import gameapi.Game;
+import gameapi.GameProvider;
+import gameapi.Team;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+
+// A binary alternative to the JSON game files. Instead of every event being
+// written as an object with its class name and its team and player in full,
+// teams and players are written once and each event is a fixed 8 byte record.
+//
+// Version 1 layout (all big endian):
+//   header      int MAGIC, short VERSION, UTF game type
+//   teams       int count, then for each team
+//                 UTF name, short player count, UTF player names
+//   games       int count, then for each game
+//                 int id, int home team, int away team (indexes into teams),
+//                 long epoch second and int nano of the date (UTC),
+//                 boolean detail available, int event count, then the events
+//   event       byte event type (GameEvent.getEventType()),
+//               byte team, 0 for home and 1 for away,
+//               short index of the player in that team, -1 for none,
+//               short time, short ball position
+//
+// Team and player stats aren't written, as tournaments work them out from
+// the games.
+public class GameSnapshot {
+
+    static final int MAGIC = 0x47414D45;    // "GAME"
+    static final short VERSION = 1;
+
+    private GameSnapshot() {}
+
+    public static void write(String dirName, String filename, Game[] allGames) throws IOException {
+
+        if (allGames.length == 0) {
+            throw new IllegalArgumentException("No games to write");
+        }
+
+        Map<String, Integer> teamIndex = new HashMap<>();
+        Team[] theTeams = GameCodec.indexTeams(allGames, teamIndex);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(new File(dirName, filename)), 1 << 16))) {
+
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(allGames[0].getDetailType());
+            GameCodec.writeTeams(out, theTeams);
+
+            out.writeInt(allGames.length);
+            for (Game currGame : allGames) {
+                GameCodec.writeGame(out, currGame, teamIndex);
+            }
+        }
+    }
+
+    public static Game[] read(String dirName, String filename) throws IOException {
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(new File(dirName, filename)), 1 << 16))) {
+
+            if (in.readInt() != MAGIC) {
+                throw new IOException(filename + " is not a game snapshot");
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException(filename + " is snapshot version " + version + ", only version " + VERSION + " can be read");
+            }
+
+            GameProvider theProvider = GameCodec.getProvider(in.readUTF());
+            Team[] theTeams = GameCodec.readTeams(in, theProvider);
+
+            Game[] allGames = new Game[in.readInt()];
+            for (int i = 0; i < allGames.length; i++) {
+                allGames[i] = GameCodec.readGame(in, theProvider, theTeams);
+            }
+            return allGames;
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package storage;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import gameapi.Game;
+import gameapi.GameWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+
+// Writes games to a JSON file one at a time, e.g. as a tournament finishes
+// each one (see TournamentType.setGameWriter()), in the same format as
+// JacksonUtil.saveToJSONFile(). Only the game being written is held on the
+// heap, so the file can be read back with either
+// JacksonUtil.getGamesFromJSONFile() or JacksonUtil.streamGamesFromJSONFile().
+public class JSONGameWriter implements GameWriter, Closeable {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private int gamesWritten;
+
+    public JSONGameWriter(String dirName, String filename) throws IOException {
+        writer = JacksonUtil.getGameWriter();
+        generator = JacksonUtil.getMapper().getFactory().createGenerator(new File(dirName, filename), JsonEncoding.UTF8);
+        generator.writeStartArray();
+    }
+
+    // Games can finish on any of the tournament's worker threads
+    @Override
+    public synchronized void write(Game theGame) throws IOException {
+        writer.writeValue(generator, theGame);
+        gamesWritten++;
+    }
+
+    /**
+     * @return the number of games written so far
+     */
+    public synchronized int getGamesWritten() {
+        return gamesWritten;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+
+}
@@ -3,23 +3,61 @@
 package storage;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import gameapi.Game;
+import gameapi.GameEvent;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 
 public class JacksonUtil {
-    
+
+    // Mappers are thread safe once configured, and readers and writers are
+    // immutable, so they're built once and shared. Building a mapper and
+    // introspecting the game classes cost far more than writing a small file.
+    private static final ObjectMapper MAPPER = createMapper();
+    private static final ObjectWriter GAMES_WRITER = MAPPER.writerFor(Game[].class);
+    private static final ObjectReader GAMES_READER = MAPPER.readerFor(Game[].class);
+    private static final ObjectWriter GAME_WRITER = MAPPER.writerFor(Game.class);
+    private static final ObjectReader GAME_READER = MAPPER.readerFor(Game.class);
+    private static final ObjectWriter LIST_WRITER = createListMapper().writer();
+
+    // The mapper writes fields, except a game's events, which are written from
+    // getEvents(). A game kept as a compact event log has no events array, and
+    // is written the same as any other without being changed.
+    private abstract static class GameMixIn {
+        @JsonProperty("events")
+        abstract GameEvent[] getEvents();
+    }
+
     static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+
+    static ObjectWriter getGameWriter() {
+        return GAME_WRITER;
+    }
+
+    private static ObjectMapper createMapper() {
         LocalDateDeserializer deserializer = new LocalDateDeserializer();
         LocalDateSerializer serializer = new LocalDateSerializer();
         
@@ -36,15 +74,16 @@ public class JacksonUtil {
 
         mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
         mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.addMixIn(Game.class, GameMixIn.class);
         
         return mapper;
     }
     
     public static void saveToJSONFile(String dirName, String filename, Game[] allGames) {
         
-        
+
         try {
-            getMapper().writeValue(new File(dirName, filename), allGames);
+            GAMES_WRITER.writeValue(new File(dirName, filename), allGames);
         } catch (IOException ioe) {
             System.out.println("trouble writing");
             //ioe.printStackTrace();
@@ -58,7 +97,7 @@ public class JacksonUtil {
         Game[] allGames = null;
         try {
     
-            allGames = getMapper().readValue(new File(dirName, filename), Game[].class);
+            allGames = GAMES_READER.readValue(new File(dirName, filename));
 
         } catch (IOException ioe) {
             System.out.println("Trouble reading");
@@ -68,19 +107,62 @@ public class JacksonUtil {
         return allGames;
         
     }
-    public static String getJSONListOfGames(ArrayList<List<Game>> allResults ) {
-        
-        ObjectMapper mapper = new ObjectMapper(); // can reuse, share globally
+
+    // Reads the games one at a time as the stream is consumed, rather than the
+    // whole file into one array. Close the stream (try-with-resources) to close
+    // the file; read errors are thrown as UncheckedIOException.
+    public static Stream<Game> streamGamesFromJSONFile(String dirName, String filename) throws IOException {
+
+        JsonParser parser = MAPPER.getFactory().createParser(new File(dirName, filename));
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException(filename + " is not an array of games");
+        }
+
+        Spliterator<Game> games = new Spliterators.AbstractSpliterator<Game>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Game> action) {
+                try {
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        return false;    // end of the games array (each game is a [type, fields] pair)
+                    }
+                    action.accept(GAME_READER.readValue(parser));
+                    return true;
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            }
+        };
+
+        return StreamSupport.stream(games, false).onClose(() -> {
+            try {
+                parser.close();
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        });
+    }
+
+    // No default typing or date module, unlike the game files
+    private static ObjectMapper createListMapper() {
+
+        ObjectMapper mapper = new ObjectMapper();
         mapper.enable(SerializationFeature.INDENT_OUTPUT);
 
         mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
         mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
 
+        return mapper;
+    }
+
+    public static String getJSONListOfGames(ArrayList<List<Game>> allResults ) {
+
         String theResults = null;
 
         try {
             
-            theResults = mapper.writeValueAsString(allResults);
+            theResults = LIST_WRITER.writeValueAsString(allResults);
         } catch (IOException ioe) {
             System.out.println("trouble writing");
             //ioe.printStackTrace();
@@ -0,0 +1,310 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package storage;
+
+import gameapi.Game;
+import gameapi.GameProvider;
+import gameapi.Team;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+// A tournament written once, then opened memory mapped so any one game can be
+// read without parsing the others, e.g. to show a single fixture from a large
+// season.
+//
+// Version 1 layout (all big endian):
+//   header      int MAGIC, short VERSION, long offset of the index,
+//               UTF game type, then the team dictionary (see GameSnapshot)
+//   index       int round count, int game count, then one INDEX_ENTRY_BYTES
+//               entry per game, in game ID order:
+//                 int id, int round, int home team, int away team,
+//                 long offset and int length of the game record
+//   games       one game record (see GameSnapshot) per game
+public class SeasonArchive implements Closeable {
+
+    static final int MAGIC = 0x53454153;    // "SEAS"
+    static final short VERSION = 1;
+    static final int INDEX_ENTRY_BYTES = 4 + 4 + 4 + 4 + 8 + 4;
+
+    private static final int INDEX_OFFSET_POS = 4 + 2;
+    private static final int DICTIONARY_POS = INDEX_OFFSET_POS + 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final GameProvider theProvider;
+    private final Team[] theTeams;
+    private final Map<String, Integer> teamIndex = new HashMap<>();
+    private final int gameCount;
+    private final int firstEntryPos;
+
+    // Entry numbers of each round's and each team's games
+    private final int[][] roundEntries;
+    private final int[][] teamEntries;
+
+    private SeasonArchive(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        if (channel.size() > Integer.MAX_VALUE) {
+            throw new IOException("Archive is too large to map");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a season archive");
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Season archive version " + version + ", only version " + VERSION + " can be read");
+        }
+
+        int indexPos = (int) buffer.getLong(INDEX_OFFSET_POS);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(getBytes(DICTIONARY_POS, indexPos - DICTIONARY_POS)));
+        theProvider = GameCodec.getProvider(in.readUTF());
+        theTeams = GameCodec.readTeams(in, theProvider);
+        for (int i = 0; i < theTeams.length; i++) {
+            teamIndex.put(theTeams[i].getTeamName(), i);
+        }
+
+        int roundCount = buffer.getInt(indexPos);
+        gameCount = buffer.getInt(indexPos + 4);
+        firstEntryPos = indexPos + 8;
+
+        // Only the index is scanned here, not the games
+        int[] roundSizes = new int[roundCount];
+        int[] teamSizes = new int[theTeams.length];
+        for (int i = 0; i < gameCount; i++) {
+            roundSizes[getEntryRound(i)]++;
+            teamSizes[getEntryHomeTeam(i)]++;
+            teamSizes[getEntryAwayTeam(i)]++;
+        }
+        roundEntries = newEntryArrays(roundSizes);
+        teamEntries = newEntryArrays(teamSizes);
+        Arrays.fill(roundSizes, 0);
+        Arrays.fill(teamSizes, 0);
+        for (int i = 0; i < gameCount; i++) {
+            int round = getEntryRound(i);
+            roundEntries[round][roundSizes[round]++] = i;
+            int homeTeam = getEntryHomeTeam(i);
+            teamEntries[homeTeam][teamSizes[homeTeam]++] = i;
+            int awayTeam = getEntryAwayTeam(i);
+            teamEntries[awayTeam][teamSizes[awayTeam]++] = i;
+        }
+    }
+
+    // All the games in one round, e.g. a league
+    public static void write(String dirName, String filename, Game[] allGames) throws IOException {
+        write(dirName, filename, new Game[][] { allGames });
+    }
+
+    // Games are looked up by ID, so no two can have the same one
+    public static void write(String dirName, String filename, Game[][] gamesByRound) throws IOException {
+
+        Game[] allGames = Arrays.stream(gamesByRound).flatMap(Arrays::stream).toArray(Game[]::new);
+        if (allGames.length == 0) {
+            throw new IllegalArgumentException("No games to write");
+        }
+
+        Map<Game, Integer> roundOf = new IdentityHashMap<>();
+        for (int round = 0; round < gamesByRound.length; round++) {
+            for (Game currGame : gamesByRound[round]) {
+                roundOf.put(currGame, round);
+            }
+        }
+        Game[] byId = allGames.clone();
+        Arrays.sort(byId, Comparator.comparingInt(Game::getID));
+        for (int i = 1; i < byId.length; i++) {
+            if (byId[i].getID() == byId[i - 1].getID()) {
+                // e.g. games read from a JSON file written before games were numbered, which are all 0
+                throw new IllegalArgumentException("Two games have the ID " + byId[i].getID());
+            }
+        }
+
+        Map<String, Integer> teamIndex = new HashMap<>();
+        Team[] theTeams = GameCodec.indexTeams(allGames, teamIndex);
+
+        // The dictionary is written first to find out where the index starts
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+        DataOutputStream dictionaryOut = new DataOutputStream(dictionary);
+        dictionaryOut.writeUTF(allGames[0].getDetailType());
+        GameCodec.writeTeams(dictionaryOut, theTeams);
+        dictionaryOut.flush();
+
+        long indexPos = DICTIONARY_POS + dictionary.size();
+        long gamePos = indexPos + 8 + (long) byId.length * INDEX_ENTRY_BYTES;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(new File(dirName, filename)), 1 << 16))) {
+
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(indexPos);
+            dictionary.writeTo(out);
+
+            out.writeInt(gamesByRound.length);
+            out.writeInt(byId.length);
+            for (Game currGame : byId) {
+                int gameBytes = GameCodec.getGameBytes(currGame);
+                out.writeInt(currGame.getID());
+                out.writeInt(roundOf.get(currGame));
+                out.writeInt(GameCodec.getTeamIndex(teamIndex, currGame.getHomeTeam()));
+                out.writeInt(GameCodec.getTeamIndex(teamIndex, currGame.getAwayTeam()));
+                out.writeLong(gamePos);
+                out.writeInt(gameBytes);
+                gamePos += gameBytes;
+            }
+
+            for (Game currGame : byId) {
+                GameCodec.writeGame(out, currGame, teamIndex);
+            }
+        }
+    }
+
+    public static SeasonArchive open(String dirName, String filename) throws IOException {
+        FileChannel channel = FileChannel.open(new File(dirName, filename).toPath(), StandardOpenOption.READ);
+        try {
+            return new SeasonArchive(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of games in the archive
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * @return the number of rounds in the archive
+     */
+    public int getRoundCount() {
+        return roundEntries.length;
+    }
+
+    /**
+     * @return the teams, shared by all the games read from the archive
+     */
+    public Team[] getTeams() {
+        return theTeams.clone();
+    }
+
+    /**
+     * @return the game with the ID, or null if it isn't in the archive
+     */
+    public Game getGame(int id) {
+        int entry = findEntry(id);
+        return entry < 0 ? null : readGame(entry);
+    }
+
+    public Game[] getRound(int round) {
+        return readGames(roundEntries[round]);
+    }
+
+    public Game[] getTeamGames(String teamName) {
+        Integer team = teamIndex.get(teamName);
+        return team == null ? new Game[0] : readGames(teamEntries[team]);
+    }
+
+    // The mapping itself is released when the archive is garbage collected
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Game IDs are usually numbered from the first, so try there before searching
+    private int findEntry(int id) {
+        if (gameCount == 0) {
+            return -1;
+        }
+        int guess = id - getEntryId(0);
+        if (guess >= 0 && guess < gameCount && getEntryId(guess) == id) {
+            return guess;
+        }
+        int low = 0;
+        int high = gameCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = getEntryId(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private Game[] readGames(int[] entries) {
+        Game[] theGames = new Game[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            theGames[i] = readGame(entries[i]);
+        }
+        return theGames;
+    }
+
+    private Game readGame(int entry) {
+        int entryPos = firstEntryPos + entry * INDEX_ENTRY_BYTES;
+        int gamePos = (int) buffer.getLong(entryPos + 16);
+        int gameBytes = buffer.getInt(entryPos + 24);
+        try {
+            return GameCodec.readGame(new DataInputStream(new ByteArrayInputStream(getBytes(gamePos, gameBytes))), theProvider, theTeams);
+        } catch (IOException ioe) {
+            // Only if the record is shorter than the index says
+            throw new IllegalStateException("Corrupt game record at " + gamePos, ioe);
+        }
+    }
+
+    private byte[] getBytes(int pos, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();    // so reads on other threads don't share a position
+        view.position(pos);
+        view.get(bytes);
+        return bytes;
+    }
+
+    private int getEntryId(int entry) {
+        return buffer.getInt(firstEntryPos + entry * INDEX_ENTRY_BYTES);
+    }
+
+    private int getEntryRound(int entry) {
+        return buffer.getInt(firstEntryPos + entry * INDEX_ENTRY_BYTES + 4);
+    }
+
+    private int getEntryHomeTeam(int entry) {
+        return buffer.getInt(firstEntryPos + entry * INDEX_ENTRY_BYTES + 8);
+    }
+
+    private int getEntryAwayTeam(int entry) {
+        return buffer.getInt(firstEntryPos + entry * INDEX_ENTRY_BYTES + 12);
+    }
+
+    private static int[][] newEntryArrays(int[] sizes) {
+        int[][] entries = new int[sizes.length][];
+        for (int i = 0; i < sizes.length; i++) {
+            entries[i] = new int[sizes[i]];
+        }
+        return entries;
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamefixtures;
+
+import gameapi.Game;
+import gameapi.GameEvent;
+
+
+public final class Games {
+
+    private Games() {}
+
+    /**
+     * @return the teams, score and every event of each game, by name, so
+     * games can be compared whichever Team and Player objects they hold
+     */
+    public static String describe(Game... theGames) {
+        StringBuilder described = new StringBuilder();
+        for (Game currGame : theGames) {
+            described.append(currGame.getHomeTeam().getTeamName()).append(" v ")
+                    .append(currGame.getAwayTeam().getTeamName()).append(' ')
+                    .append(currGame.getScore()).append('\n');
+            for (GameEvent currEvent : currGame.getEvents()) {
+                described.append(String.format("  %.0f %d %s %s %d%n", currEvent.getTheTime(), currEvent.getEventType(),
+                        currEvent.getTheTeam().getTeamName(), currEvent.getThePlayer().getPlayerName(), currEvent.getBallPos()));
+            }
+        }
+        return described.toString();
+    }
+
+}
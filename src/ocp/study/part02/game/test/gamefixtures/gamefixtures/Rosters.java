@@ -0,0 +1,28 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gamefixtures;
+
+import game.Factory;
+import gameapi.Player;
+import gameapi.Team;
+
+
+// Made up teams, so the tests and benchmarks don't depend on how many names
+// are in authors.txt
+public final class Rosters {
+
+    private Rosters() {}
+
+    public static Team[] createTeams(String gameType, int numTeams, int teamSize) {
+        Team[] theTeams = new Team[numTeams];
+        for (int i = 0; i < numTeams; i++) {
+            Player[] thePlayers = new Player[teamSize];
+            for (int j = 0; j < teamSize; j++) {
+                thePlayers[j] = Factory.createPlayer(gameType, "Player " + i + "-" + j);
+            }
+            theTeams[i] = Factory.createTeam(gameType, "Team " + i, thePlayers);
+        }
+        return theTeams;
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.Knockout;
+import game.League;
+import game.TournamentFactory;
+import gameapi.Game;
+import gameapi.GameEvent;
+import gameapi.GameResult;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gameapi.TournamentType;
+import gamefixtures.Games;
+import gamefixtures.Rosters;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import soccer.Soccer;
+import soccer.util.GameSettings;
+import storage.GameSnapshot;
+import storage.JacksonUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+// A game kept as a compact event log plays and reads back the same as one
+// kept as event objects
+class CompactEventLogTest {
+
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2017, 9, 1, 15, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void compactLogHasTheSameEvents() {
+        Game objectLog = playGame(false, 5);
+        Game compactLog = playGame(true, 5);
+
+        assertEquals(Games.describe(objectLog), Games.describe(compactLog));
+        assertEquals(objectLog.getEventCount(), compactLog.getEventCount());
+        assertEquals(objectLog.getGameResult().getHomeTeamScore(), compactLog.getGameResult().getHomeTeamScore());
+        assertEquals(objectLog.getGameResult().getAwayTeamScore(), compactLog.getGameResult().getAwayTeamScore());
+    }
+
+    @Test
+    void compactLogMakesNewEventsForTheGamesTeams() {
+        Game compactLog = playGame(true, 5);
+
+        assertNotSame(compactLog.getEvents(), compactLog.getEvents());
+        for (GameEvent currEvent : compactLog.getEvents()) {
+            Team theTeam = currEvent.getTheTeam();
+            assertTrue(theTeam == compactLog.getHomeTeam() || theTeam == compactLog.getAwayTeam());
+        }
+    }
+
+    @Test
+    void compactLogIsSavedAsJSONWithItsEvents() {
+        Game compactLog = playGame(true, 5);
+        GameResult theResult = compactLog.getGameResult();
+        JacksonUtil.saveToJSONFile(dir.toString(), "game.json", new Game[] {compactLog});
+
+        assertEquals(Games.describe(compactLog), Games.describe(JacksonUtil.getGamesFromJSONFile(dir.toString(), "game.json")));
+        assertSame(theResult, compactLog.getGameResult());
+        assertNotSame(compactLog.getEvents(), compactLog.getEvents());    // still a compact log
+    }
+
+    @Test
+    void compactLogIsWrittenToASnapshot() throws IOException {
+        Game compactLog = playGame(true, 5);
+        GameSnapshot.write(dir.toString(), "game.snap", new Game[] {compactLog});
+
+        assertEquals(Games.describe(compactLog), Games.describe(GameSnapshot.read(dir.toString(), "game.snap")));
+    }
+
+    @Test
+    void tournamentsCanKeepCompactLogs() {
+        for (TournamentType objectLog : new TournamentType[] {new League(), new Knockout()}) {
+            TournamentType compactLog = TournamentFactory.getTournament(objectLog.getName(), "soccer",
+                    Rosters.createTeams("soccer", 8, 5));
+            objectLog.populate("soccer", Rosters.createTeams("soccer", 8, 5));
+            objectLog.setRandom(RandomSource.seeded(3));
+            compactLog.setRandom(RandomSource.seeded(3));
+            compactLog.setCompactEventLog(true);
+            objectLog.createAndPlayAllGames();
+            compactLog.createAndPlayAllGames();
+
+            assertEquals(Games.describe(objectLog.getGames()), Games.describe(compactLog.getGames()), objectLog.getName());
+            Game compactGame = compactLog.getGames()[0];
+            assertNotSame(compactGame.getEvents(), compactGame.getEvents());
+            Game objectGame = objectLog.getGames()[0];
+            assertSame(objectGame.getEvents(), objectGame.getEvents());
+        }
+    }
+
+    private static Game playGame(boolean compactEventLog, long seed) {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Game theGame = new Soccer(theTeams[0], theTeams[1], KICKOFF, GameSettings.GAME_LENGTH, compactEventLog);
+        theGame.setRandom(RandomSource.seeded(seed));
+        theGame.playGame();
+        return theGame;
+    }
+
+}
@@ -0,0 +1,65 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.Knockout;
+import game.League;
+import gameapi.RandomSource;
+import gameapi.TournamentType;
+import gamefixtures.Games;
+import gamefixtures.Rosters;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+
+// A seeded tournament plays out the same whether its games are played one
+// after another or on a pool, as each game has its own split of the seed
+class DeterminismTest {
+
+    private static ExecutorService pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void leagueIsTheSameSequentialOrParallel() {
+        assertEquals(play(new League(), 8, false, 7), play(new League(), 8, true, 7));
+    }
+
+    @Test
+    void knockoutIsTheSameSequentialOrParallel() {
+        assertEquals(play(new Knockout(), 16, false, 7), play(new Knockout(), 16, true, 7));
+    }
+
+    @Test
+    void leagueIsTheSameEachTimeItIsPlayed() {
+        assertEquals(play(new League(), 8, true, 7), play(new League(), 8, true, 7));
+    }
+
+    @Test
+    void otherSeedsPlayOtherGames() {
+        assertNotEquals(play(new League(), 8, false, 7), play(new League(), 8, false, 8));
+    }
+
+    private static String play(TournamentType theTournament, int numTeams, boolean parallel, long seed) {
+        theTournament.populate("soccer", Rosters.createTeams("soccer", numTeams, 5));
+        theTournament.setRandom(RandomSource.seeded(seed));
+        theTournament.setExecutor(parallel ? pool : null);
+        theTournament.createAndPlayAllGames();
+        return Games.describe(theTournament.getGames());
+    }
+
+}
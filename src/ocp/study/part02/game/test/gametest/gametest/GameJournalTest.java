@@ -0,0 +1,109 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.League;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gamefixtures.Games;
+import gamefixtures.Rosters;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.GameJournal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void journalledGamesAreRestoredNotPlayed() throws IOException {
+        Game[] played = playLeague(11);
+
+        // Another seed would play other games, so these can only have come from the journal
+        try (GameJournal theJournal = new GameJournal(dir.toString(), "league.jrnl")) {
+            assertEquals(30, theJournal.getGameCount());
+            assertEquals(Games.describe(played), Games.describe(playLeague(12, theJournal)));
+        }
+    }
+
+    @Test
+    void tornRecordIsCutOff() throws IOException {
+        Game[] played = playLeague(11);
+        Path journalFile = dir.resolve("league.jrnl");
+        long fullSize = Files.size(journalFile);
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            file.setLength(fullSize - 5);    // part way through the last game's record
+        }
+
+        try (GameJournal theJournal = new GameJournal(dir.toString(), "league.jrnl")) {
+            assertEquals(29, theJournal.getGameCount());
+            assertTrue(Files.size(journalFile) < fullSize - 5);
+
+            // The last game is played again, this time with another seed
+            Game[] resumed = playLeague(12, theJournal);
+            assertEquals(Games.describe(Arrays.copyOf(played, 29)), Games.describe(Arrays.copyOf(resumed, 29)));
+            assertEquals(30, theJournal.getGameCount());
+        }
+
+        // and recorded after the records that were kept
+        try (GameJournal theJournal = new GameJournal(dir.toString(), "league.jrnl")) {
+            assertEquals(30, theJournal.getGameCount());
+        }
+    }
+
+    @Test
+    void recordsFromACorruptOneOnAreDropped() throws IOException {
+        playLeague(11);
+        Path journalFile = dir.resolve("league.jrnl");
+        long fullSize = Files.size(journalFile);
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            long middle = fullSize / 2;
+            file.seek(middle);
+            int b = file.read();
+            file.seek(middle);
+            file.write(b ^ 0xFF);
+        }
+
+        try (GameJournal theJournal = new GameJournal(dir.toString(), "league.jrnl")) {
+            int kept = theJournal.getGameCount();
+            assertTrue(kept > 0 && kept < 30, kept + " games kept");
+            assertNotEquals(fullSize, Files.size(journalFile));
+        }
+    }
+
+    @Test
+    void gamesNotYetFlushedAreRestored() throws IOException {
+        try (GameJournal theJournal = new GameJournal(dir.toString(), "league.jrnl", 1000)) {
+            Game[] played = playLeague(11, theJournal);
+            assertEquals(Games.describe(played), Games.describe(playLeague(12, theJournal)));
+        }
+    }
+
+    // Plays a league into a new journal and closes it
+    private Game[] playLeague(long seed) throws IOException {
+        try (GameJournal theJournal = new GameJournal(dir.toString(), "league.jrnl")) {
+            return playLeague(seed, theJournal);
+        }
+    }
+
+    private static Game[] playLeague(long seed, GameJournal theJournal) {
+        League theLeague = new League();
+        theLeague.populate("soccer", Rosters.createTeams("soccer", 6, 5));
+        theLeague.setRandom(RandomSource.seeded(seed));
+        theLeague.setJournal(theJournal);
+        theLeague.createAndPlayAllGames();
+        return theLeague.getGames();
+    }
+
+}
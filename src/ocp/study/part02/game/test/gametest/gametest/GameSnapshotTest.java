@@ -0,0 +1,65 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.League;
+import gameapi.Game;
+import gameapi.Team;
+import gamefixtures.Games;
+import gamefixtures.Rosters;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.GameSnapshot;
+import storage.JacksonUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class GameSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void playedGamesReadBackTheSame() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(6).getGames();
+        GameSnapshot.write(dir.toString(), "league.snap", theGames);
+
+        assertEquals(Games.describe(theGames), Games.describe(GameSnapshot.read(dir.toString(), "league.snap")));
+    }
+
+    @Test
+    void loadedGamesReadBackTheSame() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(6).getGames();
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", theGames);
+
+        // Each loaded game and event has its own copy of the teams and players
+        Game[] loadedGames = JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json");
+        GameSnapshot.write(dir.toString(), "league.snap", loadedGames);
+
+        assertEquals(Games.describe(theGames), Games.describe(GameSnapshot.read(dir.toString(), "league.snap")));
+    }
+
+    @Test
+    void eventsForTeamsNotPlayingAreRejected() {
+        League theLeague = StandingsTest.playLeague(3);
+        Game theGame = theLeague.getGames()[0];
+        Team otherTeam = Rosters.createTeams("soccer", 4, 5)[3];
+        theGame.getEvents()[0].setTheTeam(otherTeam);
+
+        assertThrows(IOException.class, () -> GameSnapshot.write(dir.toString(), "league.snap", new Game[] {theGame}));
+    }
+
+    @Test
+    void eventsForPlayersNotInTheTeamAreRejected() {
+        League theLeague = StandingsTest.playLeague(3);
+        Game theGame = theLeague.getGames()[0];
+        theGame.getEvents()[0].setThePlayer(Rosters.createTeams("soccer", 1, 6)[0].getPlayerArray()[5]);
+
+        assertThrows(IOException.class, () -> GameSnapshot.write(dir.toString(), "league.snap", new Game[] {theGame}));
+    }
+
+}
@@ -0,0 +1,76 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.League;
+import gameapi.Game;
+import gameapi.GameResult;
+import gameapi.RandomSource;
+import gamefixtures.Games;
+import gamefixtures.Rosters;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JSONGameWriter;
+import storage.JacksonUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+
+class JSONGameWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void gamesWrittenOneAtATimeReadBackTheSame() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(4).getGames();
+        write(theGames);
+
+        assertEquals(Games.describe(theGames), Games.describe(JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json")));
+    }
+
+    @Test
+    void writingLeavesTheGamesAsTheyWere() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(4).getGames();
+        GameResult[] results = JacksonUtilTest.getResults(theGames);
+
+        write(theGames);
+
+        for (int i = 0; i < theGames.length; i++) {
+            assertSame(results[i], theGames[i].getGameResult());
+        }
+    }
+
+    @Test
+    void leagueWritesEachGameAsItFinishes() throws IOException {
+        League theLeague = new League();
+        theLeague.populate("soccer", Rosters.createTeams("soccer", 4, 5));
+        theLeague.setRandom(RandomSource.seeded(11));
+        theLeague.setExecutor(ForkJoinPool.commonPool());
+        try (JSONGameWriter writer = new JSONGameWriter(dir.toString(), "league.json")) {
+            theLeague.setGameWriter(writer);
+            theLeague.createAndPlayAllGames();
+            assertEquals(theLeague.getGames().length, writer.getGamesWritten());
+        }
+
+        // Written in the order they finished
+        Game[] loadedGames = JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json");
+        Arrays.sort(loadedGames, Comparator.comparingInt(Game::getID));
+        assertEquals(Games.describe(theLeague.getGames()), Games.describe(loadedGames));
+    }
+
+    private void write(Game[] theGames) throws IOException {
+        try (JSONGameWriter writer = new JSONGameWriter(dir.toString(), "league.json")) {
+            for (Game currGame : theGames) {
+                writer.write(currGame);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import gameapi.Game;
+import gameapi.GameResult;
+import gamefixtures.Games;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JacksonUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+
+class JacksonUtilTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savedGamesReadBackTheSame() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(4).getGames();
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", theGames);
+
+        assertEquals(Games.describe(theGames), Games.describe(JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json")));
+        try (Stream<Game> loadedGames = JacksonUtil.streamGamesFromJSONFile(dir.toString(), "league.json")) {
+            assertEquals(Games.describe(theGames), Games.describe(loadedGames.toArray(Game[]::new)));
+        }
+    }
+
+    @Test
+    void savingLeavesTheGamesAsTheyWere() {
+        Game[] theGames = StandingsTest.playLeague(4).getGames();
+        GameResult[] results = getResults(theGames);
+
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", theGames);
+
+        // Setting the events again would have thrown the cached results away
+        for (int i = 0; i < theGames.length; i++) {
+            assertSame(results[i], theGames[i].getGameResult());
+        }
+    }
+
+    static GameResult[] getResults(Game[] theGames) {
+        GameResult[] results = new GameResult[theGames.length];
+        for (int i = 0; i < theGames.length; i++) {
+            results[i] = theGames[i].getGameResult();
+        }
+        return results;
+    }
+
+}
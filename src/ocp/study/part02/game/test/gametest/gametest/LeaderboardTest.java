@@ -0,0 +1,87 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.Leaderboard;
+import game.League;
+import game.PlayerStats;
+import gameapi.Player;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class LeaderboardTest {
+
+    private static final int[] K = {0, 1, 3, 5, 12, 1000};
+
+    @Test
+    void topScorersMatchAFullSort() {
+        League theLeague = StandingsTest.playLeague(6);
+        PlayerStats theStats = theLeague.getPlayerStats();
+        Leaderboard theLeaderboard = new Leaderboard(theStats);
+
+        for (int k : K) {
+            assertArrayEquals(sortedScorers(theStats, null, k), theLeaderboard.getTopScorers(k), "k = " + k);
+        }
+    }
+
+    @Test
+    void teamTopScorersMatchAFullSort() {
+        League theLeague = StandingsTest.playLeague(6);
+        PlayerStats theStats = theLeague.getPlayerStats();
+        Leaderboard theLeaderboard = new Leaderboard(theStats);
+
+        for (Team theTeam : theLeague.getTeams()) {
+            for (int k : K) {
+                assertArrayEquals(sortedScorers(theStats, theTeam, k), theLeaderboard.getTopScorers(theTeam, k),
+                        theTeam.getTeamName() + ", k = " + k);
+            }
+        }
+    }
+
+    @Test
+    void levelScorersAreInRosterOrder() {
+        Team[] theTeams = Rosters.createTeams("soccer", 3, 5);
+        PlayerStats theStats = new PlayerStats(theTeams);
+        Leaderboard theLeaderboard = new Leaderboard(theStats);
+
+        for (int k : K) {
+            assertArrayEquals(sortedScorers(theStats, null, k), theLeaderboard.getTopScorers(k), "k = " + k);
+            assertArrayEquals(sortedScorers(theStats, theTeams[1], k), theLeaderboard.getTopScorers(theTeams[1], k),
+                    "k = " + k);
+        }
+    }
+
+    @Test
+    void negativeTopIsRejected() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Leaderboard theLeaderboard = new Leaderboard(new PlayerStats(theTeams));
+
+        assertThrows(IllegalArgumentException.class, () -> theLeaderboard.getTopScorers(-1));
+        assertThrows(IllegalArgumentException.class, () -> theLeaderboard.getTopScorers(theTeams[0], -1));
+    }
+
+    // Every player (or every player in theTeam) sorted by goals, then roster order
+    private static Player[] sortedScorers(PlayerStats theStats, Team theTeam, int k) {
+        List<Integer> playerIds = new ArrayList<>();
+        for (int id = 0; id < theStats.getPlayerCount(); id++) {
+            if (theTeam == null || theStats.getTeam(theStats.getPlayer(id)) == theTeam) {
+                playerIds.add(id);
+            }
+        }
+        playerIds.sort(Comparator.comparingInt((Integer id) -> -theStats.getGoals(id)).thenComparingInt(id -> id));
+
+        return playerIds.stream()
+                .limit(k)
+                .map(theStats::getPlayer)
+                .toArray(Player[]::new);
+    }
+
+}
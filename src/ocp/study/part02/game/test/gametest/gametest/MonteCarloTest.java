@@ -0,0 +1,70 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.MonteCarlo;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class MonteCarloTest {
+
+    @Test
+    void seededRunsAreTheSame() {
+        MonteCarlo.Estimate first = run(7, 100, 300, 0.05);
+        MonteCarlo.Estimate second = run(7, 100, 300, 0.05);
+
+        assertEquals(first.toString(), second.toString());
+        for (int i = 0; i < first.getNumTeams(); i++) {
+            assertArrayEquals(first.getPointsDistribution(i), second.getPointsDistribution(i));
+            assertArrayEquals(first.getGoalsDistribution(i), second.getGoalsDistribution(i));
+        }
+    }
+
+    @Test
+    void runStopsOnceWithinTheTolerance() {
+        assertEquals(40, run(7, 40, 400, 0.5).getReplicas());
+        assertEquals(400, run(7, 40, 400, 0.001).getReplicas());
+    }
+
+    @Test
+    void teamsThatHaveNotWonStillHaveAnInterval() {
+        MonteCarlo.Estimate estimate = run(7, 20, 20, 0.5);
+
+        for (int i = 0; i < estimate.getNumTeams(); i++) {
+            assertTrue(estimate.getWinInterval(i) > 0.05, estimate.getTeamName(i) + " " + estimate.getWinInterval(i));
+            assertTrue(estimate.getWinLower(i) <= estimate.getWinProbability(i));
+            assertTrue(estimate.getWinUpper(i) >= estimate.getWinProbability(i));
+        }
+    }
+
+    @Test
+    void distributionsCountEveryReplica() {
+        MonteCarlo.Estimate estimate = run(7, 60, 60, 0.5);
+
+        for (int i = 0; i < estimate.getNumTeams(); i++) {
+            assertEquals(60, Arrays.stream(estimate.getPointsDistribution(i)).sum());
+            assertEquals(60, Arrays.stream(estimate.getGoalsDistribution(i)).sum());
+        }
+    }
+
+    private static MonteCarlo.Estimate run(long seed, int minReplicas, int maxReplicas, double tolerance) {
+        Team[] theTeams = Rosters.createTeams("soccer", 8, 5);
+        MonteCarlo theRunner = new MonteCarlo("knockout", "soccer", theTeams);
+        theRunner.setExecutor(ForkJoinPool.commonPool());
+        theRunner.setRandom(RandomSource.seeded(seed));
+        theRunner.setBatchSize(20);
+        theRunner.setReplicas(minReplicas, maxReplicas);
+        theRunner.setTolerance(tolerance);
+        return theRunner.run();
+    }
+
+}
@@ -0,0 +1,106 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.Factory;
+import game.Knockout;
+import game.League;
+import game.PlayerStats;
+import gameapi.Game;
+import gameapi.Player;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JacksonUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class PlayerStatsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadedLeagueHasTheSameScorers() {
+        League played = StandingsTest.playLeague(6);
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", played.getGames());
+
+        League loaded = new League(JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json"));
+        loaded.showBestPlayers(loaded.getTeams());
+
+        assertSameGoals(played.getPlayerStats(), played.getTeams(), loaded.getPlayerStats());
+    }
+
+    @Test
+    void loadedKnockoutHasTheSameScorers() {
+        Team[] theTeams = Rosters.createTeams("soccer", 8, 5);
+        Knockout played = new Knockout();
+        played.populate("soccer", theTeams);
+        played.setRandom(RandomSource.seeded(11));
+        played.createAndPlayAllGames();
+        JacksonUtil.saveToJSONFile(dir.toString(), "knockout.json", played.getGames());
+
+        Game[] loadedGames = JacksonUtil.getGamesFromJSONFile(dir.toString(), "knockout.json");
+        Knockout loaded = new Knockout(loadedGames);
+        loaded.setPlayerStats(loadedGames);
+        loaded.setTeamStats(loadedGames);
+
+        assertSameGoals(played.getPlayerStats(), theTeams, loaded.getPlayerStats());
+        assertEquals(8, loaded.getStandings().getTeams().length);
+    }
+
+    @Test
+    void playersAreFoundByTeamAndName() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Team[] copies = Rosters.createTeams("soccer", 2, 5);
+        PlayerStats theStats = new PlayerStats(theTeams);
+
+        Player copy = copies[1].getPlayerArray()[3];
+        assertEquals(8, theStats.getPlayerId(copies[1], copy));
+        assertEquals(8, theStats.getPlayerId(copy));
+        assertSame(theTeams[1], theStats.getTeam(copy));
+    }
+
+    @Test
+    void playersOnSeveralTeamsNeedTheirTeam() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Team otherTeam = Factory.createTeam("soccer", "Other", theTeams[0].getPlayerArray().clone());
+        PlayerStats theStats = new PlayerStats(new Team[] {theTeams[0], otherTeam});
+
+        Player copy = Rosters.createTeams("soccer", 1, 5)[0].getPlayerArray()[0];
+        assertThrows(IllegalArgumentException.class, () -> theStats.getPlayerId(copy));
+        assertEquals(5, theStats.getPlayerId(otherTeam, copy));
+    }
+
+    @Test
+    void playersNotOnTheTeamAreRejected() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        PlayerStats theStats = new PlayerStats(theTeams);
+
+        Player otherPlayer = Rosters.createTeams("soccer", 1, 6)[0].getPlayerArray()[5];
+        assertThrows(IllegalArgumentException.class, () -> theStats.getPlayerId(theTeams[0], otherPlayer));
+        assertThrows(IllegalArgumentException.class, () -> theStats.getPlayerId(otherPlayer));
+    }
+
+    // Every player's goals, found by name in the other stats
+    private static void assertSameGoals(PlayerStats expected, Team[] theTeams, PlayerStats actual) {
+        int totalGoals = 0;
+        for (Team currTeam : theTeams) {
+            for (Player currPlayer : currTeam.getPlayerArray()) {
+                assertEquals(expected.getGoals(currPlayer), actual.getGoals(actual.getPlayerId(currTeam, currPlayer)),
+                        currPlayer.getPlayerName());
+                totalGoals += expected.getGoals(currPlayer);
+            }
+        }
+        assertEquals(expected.getPlayerCount(), actual.getPlayerCount());
+        assertTrue(totalGoals > 0, "no goals to compare");
+    }
+
+}
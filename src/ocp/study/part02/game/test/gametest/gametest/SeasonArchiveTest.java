@@ -0,0 +1,92 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.Knockout;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gamefixtures.Games;
+import gamefixtures.Rosters;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JacksonUtil;
+import storage.SeasonArchive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class SeasonArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void gamesAreReadBackByIdAndByTeam() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(6).getGames();
+        SeasonArchive.write(dir.toString(), "league.arch", theGames);
+
+        try (SeasonArchive theArchive = SeasonArchive.open(dir.toString(), "league.arch")) {
+            assertEquals(30, theArchive.getGameCount());
+            assertEquals(6, theArchive.getTeams().length);
+            for (Game currGame : theGames) {
+                assertEquals(Games.describe(currGame), Games.describe(theArchive.getGame(currGame.getID())));
+            }
+            assertNull(theArchive.getGame(30));
+
+            Game[] teamGames = theArchive.getTeamGames("Team 2");
+            assertEquals(10, teamGames.length);
+            for (Game currGame : teamGames) {
+                assertTrue(currGame.getHomeTeam().getTeamName().equals("Team 2")
+                        || currGame.getAwayTeam().getTeamName().equals("Team 2"));
+            }
+            assertEquals(0, theArchive.getTeamGames("Team 6").length);
+        }
+    }
+
+    @Test
+    void gamesWithTheSameIdAreRejected() {
+        Game[] theGames = StandingsTest.playLeague(3).getGames();
+        theGames[2].setId(theGames[0].getID());
+
+        assertThrows(IllegalArgumentException.class, () -> SeasonArchive.write(dir.toString(), "league.arch", theGames));
+    }
+
+    @Test
+    void roundsAreReadBackInOrder() throws IOException {
+        Knockout theKnockout = new Knockout();
+        theKnockout.populate("soccer", Rosters.createTeams("soccer", 8, 5));
+        theKnockout.setRandom(RandomSource.seeded(11));
+        theKnockout.createAndPlayAllGames();
+        Game[] theGames = theKnockout.getGames();
+        Game[][] byRound = {
+            Arrays.copyOfRange(theGames, 0, 4), Arrays.copyOfRange(theGames, 4, 6), Arrays.copyOfRange(theGames, 6, 7)
+        };
+        SeasonArchive.write(dir.toString(), "knockout.arch", byRound);
+
+        try (SeasonArchive theArchive = SeasonArchive.open(dir.toString(), "knockout.arch")) {
+            assertEquals(3, theArchive.getRoundCount());
+            for (int round = 0; round < byRound.length; round++) {
+                assertEquals(Games.describe(byRound[round]), Games.describe(theArchive.getRound(round)));
+            }
+        }
+    }
+
+    @Test
+    void loadedGamesHaveOneDictionaryEntryPerTeam() throws IOException {
+        Game[] theGames = StandingsTest.playLeague(6).getGames();
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", theGames);
+        SeasonArchive.write(dir.toString(), "league.arch", JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json"));
+
+        try (SeasonArchive theArchive = SeasonArchive.open(dir.toString(), "league.arch")) {
+            assertEquals(6, theArchive.getTeams().length);
+            assertEquals(Games.describe(theGames), Games.describe(theArchive.getRound(0)));
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import gameapi.Game;
+import gameapi.GameEvent;
+import gameapi.Player;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import soccer.Soccer;
+import soccer.util.GameSettings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+
+class SoccerTest {
+
+    private static final LocalDateTime KICKOFF = LocalDateTime.of(2017, 9, 1, 15, 0);
+
+    @Test
+    void gamesAreTheSettingsLengthByDefault() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Game theGame = new Soccer(theTeams[0], theTeams[1], KICKOFF);
+        theGame.setRandom(RandomSource.seeded(5));
+        theGame.playGame();
+
+        assertEquals(GameSettings.GAME_LENGTH, lastMinute(theGame));
+    }
+
+    @Test
+    void eachGameCanHaveItsOwnLength() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Game shortGame = new Soccer(theTeams[0], theTeams[1], KICKOFF, 20, false);
+        Game longGame = new Soccer(theTeams[0], theTeams[1], KICKOFF, 300, false);
+        shortGame.setRandom(RandomSource.seeded(5));
+        longGame.setRandom(RandomSource.seeded(5));
+        shortGame.playGame();
+        longGame.playGame();
+
+        assertEquals(20, lastMinute(shortGame));
+        assertEquals(300, lastMinute(longGame));
+    }
+
+    @Test
+    void unplayedGameHasNoEvents() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+
+        assertEquals(0, new Soccer(theTeams[0], theTeams[1], KICKOFF).getEventCount());
+        assertEquals(0, new Soccer(theTeams[0], theTeams[1], KICKOFF, GameSettings.GAME_LENGTH, true).getEventCount());
+    }
+
+    @Test
+    void rostersCantBeChangedThroughTheTeam() {
+        Team theTeam = Rosters.createTeams("soccer", 1, 5)[0];
+        Player[] thePlayers = theTeam.getPlayerArray();
+        Player first = thePlayers[0];
+        thePlayers[0] = thePlayers[1];
+
+        assertSame(first, theTeam.getPlayer(0));
+        assertSame(first, theTeam.getPlayerArray()[0]);
+        assertEquals(5, theTeam.getPlayerCount());
+    }
+
+    private static int lastMinute(Game theGame) {
+        GameEvent[] theEvents = theGame.getEvents();
+        return (int) theEvents[theEvents.length - 1].getTheTime();
+    }
+
+}
@@ -0,0 +1,112 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.Knockout;
+import game.League;
+import game.Standings;
+import gameapi.Game;
+import gameapi.RandomSource;
+import gameapi.Team;
+import gamefixtures.Rosters;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JacksonUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class StandingsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadedLeagueHasTheSameStandings() {
+        League played = playLeague(6);
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", played.getGames());
+
+        // Each loaded game has its own copies of its teams
+        League loaded = new League(JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json"));
+        loaded.setTeamStats();
+
+        Standings before = played.getStandings();
+        Standings after = loaded.getStandings();
+        for (Team currTeam : played.getTeams()) {
+            assertEquals(before.getPoints(currTeam), after.getPoints(currTeam), currTeam.getTeamName());
+            assertEquals(before.getGoalsFor(currTeam), after.getGoalsFor(currTeam), currTeam.getTeamName());
+            assertEquals(before.getGoalsAgainst(currTeam), after.getGoalsAgainst(currTeam), currTeam.getTeamName());
+            assertEquals(10, after.getPlayed(currTeam), currTeam.getTeamName());
+        }
+    }
+
+    @Test
+    void loadedKnockoutTotalsTheGivenTeams() {
+        Team[] theTeams = Rosters.createTeams("soccer", 4, 5);
+        Knockout played = new Knockout();
+        played.populate("soccer", theTeams);
+        played.setRandom(RandomSource.seeded(11));
+        played.createAndPlayAllGames();
+        JacksonUtil.saveToJSONFile(dir.toString(), "knockout.json", played.getGames());
+
+        Game[] loadedGames = JacksonUtil.getGamesFromJSONFile(dir.toString(), "knockout.json");
+        Knockout loaded = new Knockout(loadedGames);
+        loaded.setTeamStats(theTeams, loadedGames);
+
+        Standings totalled = Standings.fromGames(theTeams, played.getGames());
+        for (Team currTeam : theTeams) {
+            assertEquals(totalled.getPoints(currTeam), loaded.getStandings().getPoints(currTeam), currTeam.getTeamName());
+        }
+    }
+
+    @Test
+    void standingsFromGamesMatchThoseKeptAsTheyWerePlayed() {
+        League played = playLeague(6);
+        Standings totalled = Standings.fromGames(played.getTeams(), played.getGames());
+
+        assertEquals(played.getStandings().toString(), totalled.toString());
+    }
+
+    @Test
+    void teamsAreFoundByName() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Standings theStandings = new Standings(theTeams);
+
+        assertEquals(0, theStandings.getPlayed(Rosters.createTeams("soccer", 1, 5)[0]));
+    }
+
+    @Test
+    void teamsNotInTheStandingsAreRejected() {
+        Standings theStandings = new Standings(Rosters.createTeams("soccer", 2, 5));
+        Team[] otherTeams = Rosters.createTeams("soccer", 3, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> theStandings.getPoints(otherTeams[2]));
+    }
+
+    @Test
+    void negativeTopIsRejected() {
+        Standings theStandings = new Standings(Rosters.createTeams("soccer", 2, 5));
+
+        assertEquals(0, theStandings.getTop(0).length);
+        assertThrows(IllegalArgumentException.class, () -> theStandings.getTop(-1));
+    }
+
+    @Test
+    void teamNamesMustBeUnique() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Team[] sameNames = {theTeams[0], Rosters.createTeams("soccer", 1, 5)[0]};
+
+        assertThrows(IllegalArgumentException.class, () -> new Standings(sameNames));
+    }
+
+    static League playLeague(int numTeams) {
+        League theLeague = new League();
+        theLeague.populate("soccer", Rosters.createTeams("soccer", numTeams, 5));
+        theLeague.setRandom(RandomSource.seeded(11));
+        theLeague.createAndPlayAllGames();
+        return theLeague;
+    }
+
+}
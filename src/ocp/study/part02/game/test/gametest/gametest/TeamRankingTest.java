@@ -0,0 +1,90 @@
+/* Copyright © 2017 Oracle and/or its affiliates. All rights reserved. */
+
+package gametest;
+
+import game.League;
+import game.Standings;
+import gameapi.Game;
+import gameapi.Team;
+import gameapi.TeamRanking;
+import gamefixtures.Rosters;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.JacksonUtil;
+import utils.Settings;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class TeamRankingTest {
+
+    private static final TeamRanking RANKING = new TeamRanking(Settings.WINNER_GAME_POINTS, Settings.DRAWN_GAME_POINTS);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadedGamesRankTheSame() {
+        League played = StandingsTest.playLeague(6);
+        JacksonUtil.saveToJSONFile(dir.toString(), "league.json", played.getGames());
+        Game[] loadedGames = JacksonUtil.getGamesFromJSONFile(dir.toString(), "league.json");
+
+        // The teams as they were before the league was played, against the loaded copies
+        Team[] theTeams = Rosters.createTeams("soccer", 6, 5);
+        assertArrayEquals(getNames(RANKING.rank(theTeams, played.getGames())), getNames(RANKING.rank(theTeams, loadedGames)));
+        assertArrayEquals(getNames(played.getTeams()), getNames(new League(loadedGames).getTeams()));
+    }
+
+    @Test
+    void rankingWithoutHeadToHeadIsTheStandingsOrder() {
+        League played = StandingsTest.playLeague(8);
+        Team[] theTeams = Rosters.createTeams("soccer", 8, 5);
+        TeamRanking withoutHeadToHead = new TeamRanking(Settings.WINNER_GAME_POINTS, Settings.DRAWN_GAME_POINTS,
+                TeamRanking.Criterion.POINTS, TeamRanking.Criterion.GOAL_DIFFERENCE, TeamRanking.Criterion.GOALS_SCORED);
+
+        Standings theStandings = Standings.fromGames(theTeams, played.getGames());
+        assertArrayEquals(getNames(theStandings.getTeams()), getNames(withoutHeadToHead.rank(theTeams, played.getGames())));
+    }
+
+    @Test
+    void comparatorSortsInTheRankingOrder() {
+        League played = StandingsTest.playLeague(8);
+        Team[] theTeams = Rosters.createTeams("soccer", 8, 5);
+        Comparator<Team> byRanking = RANKING.comparator(theTeams, played.getGames());
+
+        // Reversed, so sorting has to move every team
+        Team[] sorted = played.getTeams().clone();
+        Collections.reverse(Arrays.asList(sorted));
+        Arrays.sort(sorted, byRanking);
+
+        assertArrayEquals(getNames(RANKING.rank(theTeams, played.getGames())), getNames(sorted));
+        assertThrows(IllegalArgumentException.class,
+                () -> byRanking.compare(theTeams[0], Rosters.createTeams("soccer", 9, 5)[8]));
+    }
+
+    @Test
+    void gamesAgainstOtherTeamsAreRejected() {
+        League played = StandingsTest.playLeague(6);
+        Team[] someTeams = Arrays.copyOf(Rosters.createTeams("soccer", 6, 5), 5);
+
+        assertThrows(IllegalArgumentException.class, () -> RANKING.rank(someTeams, played.getGames()));
+    }
+
+    @Test
+    void teamNamesMustBeUnique() {
+        Team[] theTeams = Rosters.createTeams("soccer", 2, 5);
+        Team[] sameNames = {theTeams[0], theTeams[1], Rosters.createTeams("soccer", 1, 5)[0]};
+
+        assertThrows(IllegalArgumentException.class, () -> RANKING.rank(sameNames, new Game[0]));
+    }
+
+    private static String[] getNames(Team[] theTeams) {
+        return Arrays.stream(theTeams).map(Team::getTeamName).toArray(String[]::new);
+    }
+
+}
@@ -0,0 +1,14 @@
+/*
+ * To change this license header, choose License Headers in Project Properties.
+ * To change this template file, choose Tools | Templates
+ * and open the template in the editor.
+ */
+module gametest {
+    requires competition;
+    requires gamefixtures;
+    requires soccer;
+    requires storage;
+    requires org.junit.jupiter.api;
+    // JUnit finds and runs the tests reflectively
+    opens gametest to org.junit.platform.commons;
+}